@@ -23,7 +23,8 @@
 
 package me.sizableshrimp.adventofcode2025.days
 
-import me.sizableshrimp.adventofcode2025.templates.Coordinate
+import me.sizableshrimp.adventofcode2025.helper.BitGrid
+import me.sizableshrimp.adventofcode2025.helper.CellularAutomaton
 import me.sizableshrimp.adventofcode2025.templates.SeparatedDay
 import me.sizableshrimp.adventofcode2025.util.*
 
@@ -34,24 +35,11 @@ class Day04 : SeparatedDay() {
         this.grid = this.lines.toBooleanGrid { it == '@' }
     }
 
-    override fun part1() = this.grid.count2D(::isAccessible)
+    override fun part1() = BitGrid.of(this.grid).let { rolls -> rolls.neighborCountLessThan(4).and(rolls).count() }
 
-    override fun part2() = generateSequence(0) { part2 ->
-        val toAdd = this.grid.count2D { coord, isRoll ->
-            if (isAccessible(coord, isRoll)) {
-                this.grid[coord] = false
-                true
-            } else false
-        }
-
-        if (toAdd == 0) null else part2 + toAdd
-    }.last()
-
-    private fun isAccessible(coord: Coordinate, isRoll: Boolean): Boolean {
-        if (!isRoll) return false
-
-        return this.grid.getCardinalOrdinalNeighbors(coord).count { (_, neighbor) -> this.grid[neighbor] } < 4
-    }
+    override fun part2() = CellularAutomaton.of(this.grid.toFlat(1)) { grid, index, isRoll ->
+        isRoll && grid.countCardinalOrdinalNeighbors(index) >= 4
+    }.apply { runToFixpoint() }.totalChanges
 
     // Implementation using immutable set of coords
     // lateinit var startingCoords: Set<Coordinate>
@@ -25,7 +25,6 @@ package me.sizableshrimp.adventofcode2025.days
 
 import me.sizableshrimp.adventofcode2025.templates.Day
 import me.sizableshrimp.adventofcode2025.util.*
-import kotlin.math.max
 
 class Day05 : Day() {
     override fun evaluate(): Result {
@@ -33,35 +32,10 @@ class Day05 : Day() {
         val ranges = rangeStrs.map { l ->
             val (start, end) = l.split("-")
             LongRange(start.toLong(), end.toLong())
-        }.sortedBy { it.first }
-        val ids = idStrs.map { it.toLong() }.sorted()
+        }.toIntervalSet()
+        val ids = idStrs.map { it.toLong() }.toLongArray()
 
-        val result = mutableListOf<LongRange>()
-        var current = ranges[0]
-        for (range in ranges.drop(1)) {
-            if (range.first !in current) {
-                result.add(current)
-                current = range
-            } else {
-                current = LongRange(current.first, max(range.last, current.last))
-            }
-        }
-        result.add(current)
-
-        var part1 = 0
-        var idx = 0
-        for (id in ids) {
-            var next = idx
-            while (next in ranges.indices && id !in ranges[next]) {
-                next++
-            }
-            if (next >= ranges.size) continue
-
-            part1++
-            idx = next
-        }
-
-        return Result.of(part1, result.sumOf { it.size })
+        return Result.of(ranges.countContained(ids), ranges.totalLength())
     }
 
     companion object {
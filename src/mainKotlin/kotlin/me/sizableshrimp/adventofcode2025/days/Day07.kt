@@ -23,6 +23,7 @@
 
 package me.sizableshrimp.adventofcode2025.days
 
+import me.sizableshrimp.adventofcode2025.helper.BeamSweep
 import me.sizableshrimp.adventofcode2025.templates.Coordinate
 import me.sizableshrimp.adventofcode2025.templates.Day
 import me.sizableshrimp.adventofcode2025.util.*
@@ -36,11 +37,11 @@ class Day07 : Day() {
         this.grid = this.lines.toBooleanGrid { it == '^' }
     }
 
-    override fun evaluate() = generateSequence(0 to mapOf(this.start to 1L)) { (p1, beams) ->
-        beams.mapKeys { (c, _) -> c.down() }.map { (c, t) ->
-            if (this.grid[c]) listOf(c.left() to t, c.right() to t) else listOf(c to t)
-        }.run { p1 + count { it.size > 1 } to flatten().groupBy { it.first }.mapValues { (_, l) -> l.sumOf { it.second } } }
-    }.take(this.grid.size - 1).last().let { (p1, p2) -> p1 to p2.values.sum() }.toResult()
+    override fun evaluate(): Result {
+        // The last row is never entered, and beams split off either side still count as timelines
+        val sweep = BeamSweep.ofSplitters(this.grid, this.start.y).start(this.start.x, 1).runTo(this.grid.size - 2)
+        return Result.of(sweep.splitHits, sweep.total + sweep.escapedBeams)
+    }
 
     companion object {
         @JvmStatic
@@ -24,7 +24,7 @@
 package me.sizableshrimp.adventofcode2025.days
 
 import me.sizableshrimp.adventofcode2025.helper.DisjointSet
-import me.sizableshrimp.adventofcode2025.helper.Itertools
+import me.sizableshrimp.adventofcode2025.helper.NearestPairs
 import me.sizableshrimp.adventofcode2025.templates.Day
 import me.sizableshrimp.adventofcode2025.templates.ZCoordinate
 import me.sizableshrimp.adventofcode2025.util.*
@@ -33,19 +33,22 @@ class Day08 : Day() {
     override fun evaluate(): Result {
         val coords = this.lines.map { ZCoordinate.parse(it) }
         val dset = DisjointSet(coords.size)
-        val pairs = Itertools.combinations(coords.indices.toList(), 2)
-        pairs.sortBy { (i, j) -> coords[i].distanceSquared(coords[j]) }
+        val pairs = NearestPairs.of(coords)
         var part1 = 0
+        var i = 0
 
-        for ((i, pair) in pairs.withIndex()) {
-            val (a, b) = pair
+        while (pairs.next()) {
+            val a = pairs.i()
+            val b = pairs.j()
             dset.union(a, b)
 
             if (i == 1000)
-                part1 = dset.resolveSizes().values.sortedDescending().take(3).reduce(Int::times)
+                part1 = dset.getLargestSizes(3).reduce(Int::times)
 
             if (dset.numSets == 1)
                 return Result.of(part1, coords[a].x.toLong() * coords[b].x)
+
+            i++
         }
 
         error("")
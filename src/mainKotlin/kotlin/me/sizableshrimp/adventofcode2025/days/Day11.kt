@@ -23,35 +23,28 @@
 
 package me.sizableshrimp.adventofcode2025.days
 
+import me.sizableshrimp.adventofcode2025.helper.LabeledGraph
+import me.sizableshrimp.adventofcode2025.helper.PathCounter
 import me.sizableshrimp.adventofcode2025.templates.Day
 import me.sizableshrimp.adventofcode2025.util.*
 
 class Day11 : Day() {
     override fun evaluate(): Result {
-        val nodes = this.lines.associate { l ->
+        val builder = LabeledGraph.builder<String>()
+        this.lines.forEach { l ->
             val (label, rest) = l.split(": ")
-            label to rest.split(" ")
+            builder.addEdges(label, rest.split(" "))
         }
+        val labeled = builder.build()
+        val graph = labeled.graph
+        val (you, svr, dac, fft, out) = listOf("you", "svr", "dac", "fft", "out").map(labeled::getId)
 
-        val part1 = searchMemoizing("you", { it }) { curr, submit ->
-            nodes[curr]!!.sumOf { next -> if (next == "out") 1L else submit(next) }
-        }
-
-        val part2 = searchMemoizing(State("svr", seenDac = false, seenFft = false), { it }) { curr, submit ->
-            nodes[curr.node]!!.sumOf { next ->
-                if (next == "out") {
-                    if (curr.seenDac && curr.seenFft) 1L else 0L
-                } else {
-                    submit(State(next, curr.seenDac || next == "dac", curr.seenFft || next == "fft"))
-                }
-            }
-        }
+        val part1 = graph.countPaths(you, out)
+        val part2 = PathCounter.countPaths(graph, svr, out, dac, fft)
 
         return Result.of(part1, part2)
     }
 
-    private data class State(val node: String, val seenDac: Boolean, val seenFft: Boolean)
-
     companion object {
         @JvmStatic
         fun main(args: Array<String>) {
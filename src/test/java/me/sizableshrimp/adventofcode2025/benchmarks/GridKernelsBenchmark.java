@@ -0,0 +1,142 @@
+/*
+ * AdventOfCode2025
+ * Copyright (C) 2025 SizableShrimp
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.sizableshrimp.adventofcode2025.benchmarks;
+
+import me.sizableshrimp.adventofcode2025.helper.GridHelper;
+import me.sizableshrimp.adventofcode2025.helper.GridKernels;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link GridKernels} used by {@link GridHelper} against the plain scalar loops they replaced.
+ */
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(time = 4)
+@Fork(value = 3, warmups = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@Measurement(iterations = 3, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class GridKernelsBenchmark {
+    @Benchmark
+    public boolean[][] parseScalar(GridState state) {
+        return GridHelper.convertBool(state.lines, c -> c == '#');
+    }
+
+    @Benchmark
+    public boolean[][] parseKernel(GridState state) {
+        return GridHelper.convertBool(state.lines, '#');
+    }
+
+    @Benchmark
+    public int countScalar(GridState state) {
+        int result = 0;
+        for (boolean[] row : state.bools) {
+            for (boolean b : row) {
+                if (b)
+                    result++;
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int countKernel(GridState state) {
+        return GridHelper.countOccurrences(state.bools, true);
+    }
+
+    @Benchmark
+    public long sumScalar(GridState state) {
+        long sum = 0;
+        for (int value : state.ints) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumKernel(GridState state) {
+        return GridKernels.sum(state.ints, 0, state.ints.length);
+    }
+
+    @Benchmark
+    public long[] combineScalar(GridState state) {
+        long[] a = state.wordsA;
+        long[] b = state.wordsB;
+        long[] dst = state.wordsDst;
+        for (int i = 0; i < dst.length; i++) {
+            dst[i] = a[i] & ~b[i];
+        }
+        return dst;
+    }
+
+    @Benchmark
+    public long[] combineKernel(GridState state) {
+        GridKernels.combine(GridKernels.Combine.AND_NOT, state.wordsA, state.wordsB, state.wordsDst, 0, state.wordsDst.length);
+        return state.wordsDst;
+    }
+
+    @State(Scope.Thread)
+    public static class GridState {
+        @Param({"1024"})
+        int size;
+        List<String> lines;
+        boolean[][] bools;
+        int[] ints;
+        long[] wordsA;
+        long[] wordsB;
+        long[] wordsDst;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            SplittableRandom random = new SplittableRandom(2025);
+            this.lines = new ArrayList<>(this.size);
+            for (int y = 0; y < this.size; y++) {
+                StringBuilder line = new StringBuilder(this.size);
+                for (int x = 0; x < this.size; x++) {
+                    line.append(random.nextBoolean() ? '#' : '.');
+                }
+                this.lines.add(line.toString());
+            }
+            this.bools = GridHelper.convertBool(this.lines, '#');
+            this.ints = random.ints(this.size * this.size, 0, 10).toArray();
+            this.wordsA = random.longs(this.size * this.size / 64).toArray();
+            this.wordsB = random.longs(this.size * this.size / 64).toArray();
+            this.wordsDst = new long[this.wordsA.length];
+        }
+    }
+}
@@ -44,7 +44,7 @@ import java.util.concurrent.TimeUnit;
 @OutputTimeUnit(TimeUnit.MICROSECONDS)
 @BenchmarkMode(Mode.AverageTime)
 @Warmup(time = 4)
-@Fork(value = 3, warmups = 1)
+@Fork(value = 3, warmups = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
 @Measurement(iterations = 3, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
 public class SeparatedToday {
     @Benchmark
@@ -0,0 +1,202 @@
+/*
+ * AdventOfCode2025
+ * Copyright (C) 2025 SizableShrimp
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.sizableshrimp.adventofcode2025.helper;
+
+import java.util.Arrays;
+
+/**
+ * Propagates beams down a grid one row at a time, carrying the number of beams in each column of the current row.
+ * <p>
+ * When beams move down into a cell, its {@link Action} decides what happens to them: they {@link Action#PASS pass}
+ * straight through, {@link Action#SPLIT split} into the columns to the left and right, or are
+ * {@link Action#BLOCK blocked}. Beams reaching the same column are merged by adding their counts, so following every
+ * path through the grid costs {@code O(width * height)} time with no allocation after creation.
+ */
+public class BeamSweep {
+    private final int width;
+    private final int height;
+    private final CellRule rule;
+    private long[] counts;
+    private long[] nextCounts;
+    private int row;
+    private int splitHits;
+    private long splitBeams;
+    private long blockedBeams;
+    private long escapedBeams;
+
+    private BeamSweep(int width, int height, int startRow, CellRule rule) {
+        if (startRow < 0 || startRow >= height)
+            throw new IllegalArgumentException("Start row " + startRow + " is outside a grid of height " + height);
+
+        this.width = width;
+        this.height = height;
+        this.rule = rule;
+        this.counts = new long[width];
+        this.nextCounts = new long[width];
+        this.row = startRow;
+    }
+
+    /**
+     * Create a sweep over a grid of the given size, starting with no beams in row {@code startRow}.
+     */
+    public static BeamSweep of(int width, int height, int startRow, CellRule rule) {
+        return new BeamSweep(width, height, startRow, rule);
+    }
+
+    /**
+     * Create a sweep over a grid indexed by {@code grid[y][x]} where beams split on every {@code true} cell and pass
+     * through every other cell.
+     */
+    public static BeamSweep ofSplitters(boolean[][] grid, int startRow) {
+        return of(grid.length == 0 ? 0 : grid[0].length, grid.length, startRow, (x, y) -> grid[y][x] ? Action.SPLIT : Action.PASS);
+    }
+
+    /**
+     * Adds {@code count} beams to column {@code x} of the current row.
+     */
+    public BeamSweep start(int x, long count) {
+        this.counts[x] += count;
+        return this;
+    }
+
+    /**
+     * Moves every beam down into the next row.
+     *
+     * @return whether there was a next row to move into
+     */
+    public boolean step() {
+        if (this.row + 1 >= this.height)
+            return false;
+
+        int y = ++this.row;
+        Arrays.fill(this.nextCounts, 0);
+        for (int x = 0; x < this.width; x++) {
+            long count = this.counts[x];
+            if (count == 0)
+                continue;
+
+            switch (this.rule.get(x, y)) {
+                case PASS -> this.nextCounts[x] += count;
+                case SPLIT -> {
+                    this.splitHits++;
+                    this.splitBeams += count;
+                    this.addSideways(x - 1, count);
+                    this.addSideways(x + 1, count);
+                }
+                case BLOCK -> this.blockedBeams += count;
+            }
+        }
+
+        long[] previous = this.counts;
+        this.counts = this.nextCounts;
+        this.nextCounts = previous;
+        return true;
+    }
+
+    private void addSideways(int x, long count) {
+        if (x >= 0 && x < this.width) {
+            this.nextCounts[x] += count;
+        } else {
+            this.escapedBeams += count;
+        }
+    }
+
+    /**
+     * Steps until the beams reach the last row.
+     */
+    public BeamSweep run() {
+        while (this.step()) {}
+        return this;
+    }
+
+    /**
+     * Steps until the beams reach row {@code row}, or the last row if that comes first.
+     */
+    public BeamSweep runTo(int row) {
+        while (this.row < row && this.step()) {}
+        return this;
+    }
+
+    /**
+     * @return the row the beams are currently in
+     */
+    public int getRow() {
+        return this.row;
+    }
+
+    /**
+     * @return the number of beams in column {@code x} of the current row
+     */
+    public long getCount(int x) {
+        return this.counts[x];
+    }
+
+    /**
+     * @return the total number of beams in the current row
+     */
+    public long getTotal() {
+        long total = 0;
+        for (long count : this.counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * @return the number of splitting cells reached by at least one beam
+     */
+    public int getSplitHits() {
+        return this.splitHits;
+    }
+
+    /**
+     * @return the total number of beams which were split, counting each beam once per split
+     */
+    public long getSplitBeams() {
+        return this.splitBeams;
+    }
+
+    /**
+     * @return the total number of beams stopped by blocking cells
+     */
+    public long getBlockedBeams() {
+        return this.blockedBeams;
+    }
+
+    /**
+     * @return the total number of beams split off the left or right edge of the grid
+     */
+    public long getEscapedBeams() {
+        return this.escapedBeams;
+    }
+
+    public enum Action {
+        PASS, SPLIT, BLOCK
+    }
+
+    @FunctionalInterface
+    public interface CellRule {
+        Action get(int x, int y);
+    }
+}
@@ -0,0 +1,424 @@
+/*
+ * AdventOfCode2025
+ * Copyright (C) 2025 SizableShrimp
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.sizableshrimp.adventofcode2025.helper;
+
+import it.unimi.dsi.fastutil.chars.CharPredicate;
+import me.sizableshrimp.adventofcode2025.templates.Coordinate;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A boolean grid packed 64 cells to a {@code long}, where each row starts on a new word.
+ * Cell {@code (x, y)} is bit {@code x & 63} of word {@code y * wordsPerRow + (x >> 6)}, and bits past the width of a
+ * row are always kept clear.
+ * <p>
+ * Whole-grid operations work on a word at a time. In particular, neighbor counts are computed for 64 cells at once
+ * with bit-sliced adders, where the count of each cell is spread across 4 words holding one binary digit each.
+ */
+public class BitGrid {
+    private final int width;
+    private final int height;
+    private final int wordsPerRow;
+    private final long lastWordMask;
+    private final long[] words;
+
+    /**
+     * Create an empty grid of the given size.
+     */
+    public BitGrid(int width, int height) {
+        if (width < 0 || height < 0)
+            throw new IllegalArgumentException("Invalid grid size " + width + "x" + height);
+
+        this.width = width;
+        this.height = height;
+        this.wordsPerRow = (width + 63) >>> 6;
+        this.lastWordMask = (width & 63) == 0 ? -1L : (1L << (width & 63)) - 1;
+        this.words = new long[this.wordsPerRow * height];
+    }
+
+    public static BitGrid of(boolean[][] grid) {
+        BitGrid result = new BitGrid(grid.length == 0 ? 0 : grid[0].length, grid.length);
+        for (int y = 0; y < result.height; y++) {
+            for (int x = 0; x < result.width; x++) {
+                if (grid[y][x])
+                    result.words[result.wordIndex(x, y)] |= 1L << x;
+            }
+        }
+        return result;
+    }
+
+    public static BitGrid of(BoolGrid grid) {
+        BitGrid result = new BitGrid(grid.getWidth(), grid.getHeight());
+        for (int y = 0; y < result.height; y++) {
+            int start = grid.getRowStart(y);
+            for (int x = 0; x < result.width; x++) {
+                if (grid.getAt(start + x))
+                    result.words[result.wordIndex(x, y)] |= 1L << x;
+            }
+        }
+        return result;
+    }
+
+    public static BitGrid of(List<String> lines, CharPredicate pred) {
+        BitGrid result = new BitGrid(lines.get(0).length(), lines.size());
+        for (int y = 0; y < result.height; y++) {
+            String line = lines.get(y);
+            for (int x = 0; x < result.width; x++) {
+                if (pred.test(line.charAt(x)))
+                    result.words[result.wordIndex(x, y)] |= 1L << x;
+            }
+        }
+        return result;
+    }
+
+    public int getWidth() {
+        return this.width;
+    }
+
+    public int getHeight() {
+        return this.height;
+    }
+
+    public int getWordsPerRow() {
+        return this.wordsPerRow;
+    }
+
+    /**
+     * @return the backing words, laid out as described by {@link BitGrid}
+     */
+    public long[] getWords() {
+        return this.words;
+    }
+
+    private int wordIndex(int x, int y) {
+        return y * this.wordsPerRow + (x >>> 6);
+    }
+
+    /**
+     * Rows are padded to a whole number of words, so an x past the width would otherwise read or write the padding or
+     * the next row without any error.
+     */
+    private void checkX(int x) {
+        if (x < 0 || x >= this.width)
+            throw new IndexOutOfBoundsException("x " + x + " out of bounds for width " + this.width);
+    }
+
+    public boolean isValid(int x, int y) {
+        return x >= 0 && x < this.width && y >= 0 && y < this.height;
+    }
+
+    public boolean get(int x, int y) {
+        this.checkX(x);
+        return (this.words[this.wordIndex(x, y)] & (1L << x)) != 0;
+    }
+
+    public boolean get(Coordinate coord) {
+        return this.get(coord.x(), coord.y());
+    }
+
+    public void set(int x, int y, boolean value) {
+        this.checkX(x);
+        if (value) {
+            this.words[this.wordIndex(x, y)] |= 1L << x;
+        } else {
+            this.words[this.wordIndex(x, y)] &= ~(1L << x);
+        }
+    }
+
+    public void set(Coordinate coord, boolean value) {
+        this.set(coord.x(), coord.y(), value);
+    }
+
+    /**
+     * @return the number of cells which are {@code true}
+     */
+    public int count() {
+        int count = 0;
+        for (long word : this.words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    public boolean isEmpty() {
+        for (long word : this.words) {
+            if (word != 0)
+                return false;
+        }
+        return true;
+    }
+
+    public BitGrid copy() {
+        BitGrid copy = new BitGrid(this.width, this.height);
+        System.arraycopy(this.words, 0, copy.words, 0, this.words.length);
+        return copy;
+    }
+
+    // region Word operations
+    /**
+     * Sets each cell to itself AND the same cell of {@code other}, returning this grid.
+     */
+    public BitGrid and(BitGrid other) {
+        this.checkSameSize(other);
+        GridKernels.combine(GridKernels.Combine.AND, this.words, other.words, this.words, 0, this.words.length);
+        return this;
+    }
+
+    /**
+     * Sets each cell to itself OR the same cell of {@code other}, returning this grid.
+     */
+    public BitGrid or(BitGrid other) {
+        this.checkSameSize(other);
+        GridKernels.combine(GridKernels.Combine.OR, this.words, other.words, this.words, 0, this.words.length);
+        return this;
+    }
+
+    /**
+     * Sets each cell to itself XOR the same cell of {@code other}, returning this grid.
+     */
+    public BitGrid xor(BitGrid other) {
+        this.checkSameSize(other);
+        GridKernels.combine(GridKernels.Combine.XOR, this.words, other.words, this.words, 0, this.words.length);
+        return this;
+    }
+
+    /**
+     * Clears each cell which is set in {@code other}, returning this grid.
+     */
+    public BitGrid andNot(BitGrid other) {
+        this.checkSameSize(other);
+        GridKernels.combine(GridKernels.Combine.AND_NOT, this.words, other.words, this.words, 0, this.words.length);
+        return this;
+    }
+
+    /**
+     * Flips every cell, returning this grid.
+     */
+    public BitGrid not() {
+        // A grid of width 0 has no words, and so no last word to mask
+        if (this.wordsPerRow == 0)
+            return this;
+
+        for (int y = 0; y < this.height; y++) {
+            int start = y * this.wordsPerRow;
+            for (int i = start; i < start + this.wordsPerRow; i++) {
+                this.words[i] = ~this.words[i];
+            }
+            this.words[start + this.wordsPerRow - 1] &= this.lastWordMask;
+        }
+        return this;
+    }
+
+    /**
+     * Create a copy of this grid with every cell moved by {@code (dx, dy)}.
+     * Cells moved off the grid are dropped and cells moved onto it from outside are {@code false},
+     * so {@code shift(dx, dy).get(x, y) == get(x - dx, y - dy)} wherever the latter is valid.
+     */
+    public BitGrid shift(int dx, int dy) {
+        BitGrid result = new BitGrid(this.width, this.height);
+        if (this.wordsPerRow == 0)
+            return result;
+
+        for (int y = Math.max(0, dy); y < Math.min(this.height, this.height + dy); y++) {
+            shiftRow(this.words, (y - dy) * this.wordsPerRow, result.words, y * this.wordsPerRow, this.wordsPerRow, dx);
+            result.words[(y + 1) * this.wordsPerRow - 1] &= this.lastWordMask;
+        }
+        return result;
+    }
+
+    private static void shiftRow(long[] src, int srcStart, long[] dst, int dstStart, int length, int dx) {
+        int shift = Math.abs(dx);
+        int wordShift = shift >>> 6;
+        int bitShift = shift & 63;
+        for (int i = 0; i < length; i++) {
+            // Moving towards higher x is a left shift, which pulls in the high bits of the previous word
+            int from = dx >= 0 ? i - wordShift : i + wordShift;
+            int carryFrom = dx >= 0 ? from - 1 : from + 1;
+            long word = from >= 0 && from < length ? src[srcStart + from] : 0;
+            long carry = bitShift == 0 || carryFrom < 0 || carryFrom >= length ? 0 : src[srcStart + carryFrom];
+            dst[dstStart + i] = dx >= 0
+                    ? word << bitShift | (bitShift == 0 ? 0 : carry >>> (64 - bitShift))
+                    : word >>> bitShift | (bitShift == 0 ? 0 : carry << (64 - bitShift));
+        }
+    }
+    // endregion
+
+    // region Neighbor counts
+    /**
+     * Create a grid of the cells whose number of set neighbors, out of the 8 surrounding cells, is in {@code counts}.
+     *
+     * @param counts the allowed neighbor counts from 0 to 8, as a bit set where bit {@code n} allows a count of {@code n}
+     */
+    public BitGrid neighborCountIn(int counts) {
+        return this.step(counts, counts);
+    }
+
+    /**
+     * Create a grid of the cells with fewer than {@code k} of the 8 surrounding cells set.
+     */
+    public BitGrid neighborCountLessThan(int k) {
+        return this.neighborCountIn(k <= 0 ? 0 : (1 << Math.min(k, 9)) - 1);
+    }
+
+    /**
+     * Create the next generation of a Life-like cellular automaton over the 8 surrounding cells.
+     * For example, Conway's Game of Life is {@code step(1 << 3, 1 << 2 | 1 << 3)}.
+     *
+     * @param birth the neighbor counts which turn an unset cell on, as a bit set like {@link #neighborCountIn(int)}
+     * @param survive the neighbor counts which keep a set cell on, as a bit set like {@link #neighborCountIn(int)}
+     */
+    public BitGrid step(int birth, int survive) {
+        BitGrid result = new BitGrid(this.width, this.height);
+        long[] zero = new long[this.wordsPerRow];
+        for (int y = 0; y < this.height; y++) {
+            int row = y * this.wordsPerRow;
+            // Rows outside the grid are read from an empty row instead
+            long[] aboveWords = y == 0 ? zero : this.words;
+            long[] belowWords = y == this.height - 1 ? zero : this.words;
+            int aboveStart = y == 0 ? 0 : row - this.wordsPerRow;
+            int belowStart = y == this.height - 1 ? 0 : row + this.wordsPerRow;
+            for (int i = 0; i < this.wordsPerRow; i++) {
+                // Each row contributes its west neighbor (shifted towards higher x) and east neighbor (shifted lower)
+                long n = aboveWords[aboveStart + i];
+                long nw = this.westOf(aboveWords, aboveStart, i);
+                long ne = this.eastOf(aboveWords, aboveStart, i);
+                long s = belowWords[belowStart + i];
+                long sw = this.westOf(belowWords, belowStart, i);
+                long se = this.eastOf(belowWords, belowStart, i);
+                long w = this.westOf(this.words, row, i);
+                long e = this.eastOf(this.words, row, i);
+
+                // Full adders on the rows above and below and a half adder on the middle row give 3 ones and 3 twos,
+                // which are then added into the 4 binary digits of the count
+                long aboveOnes = nw ^ n ^ ne;
+                long aboveTwos = (nw & n) | (ne & (nw ^ n));
+                long belowOnes = sw ^ s ^ se;
+                long belowTwos = (sw & s) | (se & (sw ^ s));
+                long middleOnes = w ^ e;
+                long middleTwos = w & e;
+
+                long bit0 = aboveOnes ^ belowOnes ^ middleOnes;
+                long onesCarry = (aboveOnes & belowOnes) | (middleOnes & (aboveOnes ^ belowOnes));
+                long twos = aboveTwos ^ belowTwos ^ middleTwos;
+                long fours = (aboveTwos & belowTwos) | (middleTwos & (aboveTwos ^ belowTwos));
+                long bit1 = twos ^ onesCarry;
+                long twosCarry = twos & onesCarry;
+                long bit2 = fours ^ twosCarry;
+                long bit3 = fours & twosCarry;
+
+                long self = this.words[row + i];
+                long word = (~self & countIn(birth, bit0, bit1, bit2, bit3)) | (self & countIn(survive, bit0, bit1, bit2, bit3));
+                result.words[row + i] = i == this.wordsPerRow - 1 ? word & this.lastWordMask : word;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the west neighbors of the cells in word {@code i} of the row starting at {@code start}
+     */
+    private long westOf(long[] words, int start, int i) {
+        long word = words[start + i] << 1;
+        return i == 0 ? word : word | words[start + i - 1] >>> 63;
+    }
+
+    /**
+     * @return the east neighbors of the cells in word {@code i} of the row starting at {@code start}
+     */
+    private long eastOf(long[] words, int start, int i) {
+        long word = words[start + i] >>> 1;
+        return i == this.wordsPerRow - 1 ? word : word | words[start + i + 1] << 63;
+    }
+
+    /**
+     * @return the cells whose count, given as 4 binary digits, is in the bit set {@code counts}
+     */
+    private static long countIn(int counts, long bit0, long bit1, long bit2, long bit3) {
+        long result = 0;
+        for (int count = 0; count <= 8; count++) {
+            if ((counts & (1 << count)) == 0)
+                continue;
+            result |= ((count & 1) != 0 ? bit0 : ~bit0)
+                    & ((count & 2) != 0 ? bit1 : ~bit1)
+                    & ((count & 4) != 0 ? bit2 : ~bit2)
+                    & ((count & 8) != 0 ? bit3 : ~bit3);
+        }
+        return result;
+    }
+    // endregion
+
+    private void checkSameSize(BitGrid other) {
+        if (this.width != other.width || this.height != other.height)
+            throw new IllegalArgumentException("Grid sizes do not match: " + this.width + "x" + this.height
+                    + " and " + other.width + "x" + other.height);
+    }
+
+    public BoolGrid toBoolGrid() {
+        BoolGrid grid = new BoolGrid(this.width, this.height);
+        for (int y = 0; y < this.height; y++) {
+            for (int x = 0; x < this.width; x++) {
+                grid.set(x, y, this.get(x, y));
+            }
+        }
+        return grid;
+    }
+
+    public boolean[][] toArray() {
+        boolean[][] grid = new boolean[this.height][this.width];
+        for (int y = 0; y < this.height; y++) {
+            for (int x = 0; x < this.width; x++) {
+                grid[y][x] = this.get(x, y);
+            }
+        }
+        return grid;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof BitGrid other))
+            return false;
+        return this.width == other.width && this.height == other.height && Arrays.equals(this.words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * this.width + this.height) + Arrays.hashCode(this.words);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (int y = 0; y < this.height; y++) {
+            if (y != 0)
+                builder.append('\n');
+            for (int x = 0; x < this.width; x++) {
+                builder.append(this.get(x, y) ? '#' : '.');
+            }
+        }
+        return builder.toString();
+    }
+}
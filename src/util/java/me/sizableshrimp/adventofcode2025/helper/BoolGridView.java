@@ -0,0 +1,132 @@
+/*
+ * AdventOfCode2025
+ * Copyright (C) 2025 SizableShrimp
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.sizableshrimp.adventofcode2025.helper;
+
+import me.sizableshrimp.adventofcode2025.templates.Orientation;
+
+/**
+ * A read-only view of a boolean grid under an {@link Orientation}, which remaps each read to the original grid instead
+ * of copying it. Views of views compose their orientations, so they never stack more than one level deep.
+ */
+public class BoolGridView {
+    private final CellGetter source;
+    private final int sourceWidth;
+    private final int sourceHeight;
+    private final Orientation orientation;
+
+    private BoolGridView(CellGetter source, int sourceWidth, int sourceHeight, Orientation orientation) {
+        this.source = source;
+        this.sourceWidth = sourceWidth;
+        this.sourceHeight = sourceHeight;
+        this.orientation = orientation;
+    }
+
+    public static BoolGridView of(boolean[][] grid, Orientation orientation) {
+        return new BoolGridView((x, y) -> grid[y][x], grid.length == 0 ? 0 : grid[0].length, grid.length, orientation);
+    }
+
+    public static BoolGridView of(BoolGrid grid, Orientation orientation) {
+        return new BoolGridView(grid::get, grid.getWidth(), grid.getHeight(), orientation);
+    }
+
+    public static BoolGridView of(BitGrid grid, Orientation orientation) {
+        return new BoolGridView(grid::get, grid.getWidth(), grid.getHeight(), orientation);
+    }
+
+    public static BoolGridView of(int width, int height, CellGetter source, Orientation orientation) {
+        return new BoolGridView(source, width, height, orientation);
+    }
+
+    public int getWidth() {
+        return this.orientation.getWidth(this.sourceWidth, this.sourceHeight);
+    }
+
+    public int getHeight() {
+        return this.orientation.getHeight(this.sourceWidth, this.sourceHeight);
+    }
+
+    public Orientation getOrientation() {
+        return this.orientation;
+    }
+
+    public boolean get(int x, int y) {
+        return this.source.get(
+                this.orientation.getSourceX(x, y, this.sourceWidth, this.sourceHeight),
+                this.orientation.getSourceY(x, y, this.sourceWidth, this.sourceHeight)
+        );
+    }
+
+    /**
+     * @return a view of the same grid with {@code next} applied after this view's orientation
+     */
+    public BoolGridView reorient(Orientation next) {
+        return new BoolGridView(this.source, this.sourceWidth, this.sourceHeight, this.orientation.then(next));
+    }
+
+    public int count() {
+        int count = 0;
+        for (int y = 0; y < this.getHeight(); y++) {
+            for (int x = 0; x < this.getWidth(); x++) {
+                if (this.get(x, y))
+                    count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return a copy of the view as a grid indexed by {@code grid[y][x]}
+     */
+    public boolean[][] toArray() {
+        boolean[][] grid = new boolean[this.getHeight()][this.getWidth()];
+        for (int y = 0; y < grid.length; y++) {
+            for (int x = 0; x < grid[y].length; x++) {
+                grid[y][x] = this.get(x, y);
+            }
+        }
+        return grid;
+    }
+
+    public ShapeMask toMask() {
+        return ShapeMask.of(this.getWidth(), this.getHeight(), this::get);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (int y = 0; y < this.getHeight(); y++) {
+            if (y != 0)
+                builder.append('\n');
+            for (int x = 0; x < this.getWidth(); x++) {
+                builder.append(this.get(x, y) ? '#' : '.');
+            }
+        }
+        return builder.toString();
+    }
+
+    @FunctionalInterface
+    public interface CellGetter {
+        boolean get(int x, int y);
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * AdventOfCode2025
+ * Copyright (C) 2025 SizableShrimp
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.sizableshrimp.adventofcode2025.helper;
+
+import me.sizableshrimp.adventofcode2025.templates.Coordinate;
+
+import java.util.Arrays;
+
+/**
+ * A flat grid of {@code byte} values, backed by a single {@code byte[]}.
+ *
+ * @see FlatGrid
+ */
+public class ByteGrid extends FlatGrid {
+    private final byte[] data;
+
+    /**
+     * Create an empty grid of the given size with no border.
+     */
+    public ByteGrid(int width, int height) {
+        this(width, height, 0);
+    }
+
+    /**
+     * Create an empty grid of the given size, surrounded by {@code padding} border cells on each side.
+     */
+    public ByteGrid(int width, int height, int padding) {
+        super(width, height, padding);
+        this.data = new byte[this.getLength()];
+    }
+
+    /**
+     * Create a flat copy of a jagged grid indexed by {@code grid[y][x]}.
+     */
+    public static ByteGrid of(byte[][] grid) {
+        return of(grid, 0);
+    }
+
+    /**
+     * Create a flat copy of a jagged grid indexed by {@code grid[y][x]}, surrounded by {@code padding} border cells
+     * on each side.
+     */
+    public static ByteGrid of(byte[][] grid, int padding) {
+        ByteGrid result = new ByteGrid(grid.length == 0 ? 0 : grid[0].length, grid.length, padding);
+        for (int y = 0; y < result.height; y++) {
+            System.arraycopy(grid[y], 0, result.data, result.getRowStart(y), result.width);
+        }
+        return result;
+    }
+
+    public byte get(int x, int y) {
+        return this.data[this.index(x, y)];
+    }
+
+    public byte get(Coordinate coord) {
+        return this.data[this.index(coord)];
+    }
+
+    public void set(int x, int y, byte value) {
+        this.data[this.index(x, y)] = value;
+    }
+
+    public void set(Coordinate coord, byte value) {
+        this.data[this.index(coord)] = value;
+    }
+
+    public byte getAt(int index) {
+        return this.data[index];
+    }
+
+    public void setAt(int index, byte value) {
+        this.data[index] = value;
+    }
+
+    /**
+     * @return the backing array, including the border, which is laid out as described by {@link FlatGrid}
+     */
+    public byte[] getData() {
+        return this.data;
+    }
+
+    /**
+     * Sets every cell inside the grid to the given value, leaving the border untouched.
+     */
+    public void fill(byte value) {
+        this.forEachInsideRange((from, to) -> Arrays.fill(this.data, from, to, value));
+    }
+
+    /**
+     * Sets every cell in the border around the grid to the given value.
+     */
+    public void fillBorder(byte value) {
+        this.forEachBorderRange((from, to) -> Arrays.fill(this.data, from, to, value));
+    }
+
+    public int countOccurrences(byte target) {
+        int result = 0;
+        for (int y = 0; y < this.height; y++) {
+            int start = this.getRowStart(y);
+            for (int i = start; i < start + this.width; i++) {
+                if (this.data[i] == target)
+                    result++;
+            }
+        }
+        return result;
+    }
+
+    public ByteGrid copy() {
+        ByteGrid copy = new ByteGrid(this.width, this.height, this.padding);
+        System.arraycopy(this.data, 0, copy.data, 0, this.data.length);
+        return copy;
+    }
+
+    /**
+     * @return a jagged copy of the grid indexed by {@code grid[y][x]}, without the border
+     */
+    public byte[][] toArray() {
+        byte[][] grid = new byte[this.height][this.width];
+        for (int y = 0; y < this.height; y++) {
+            System.arraycopy(this.data, this.getRowStart(y), grid[y], 0, this.width);
+        }
+        return grid;
+    }
+
+    @Override
+    protected void appendCell(StringBuilder builder, int index) {
+        builder.append(this.data[index]);
+    }
+
+    /**
+     * Two grids are equal if they have the same size and the same cells inside the grid, ignoring the border.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof ByteGrid other) || !this.hasSameSize(other))
+            return false;
+
+        for (int y = 0; y < this.height; y++) {
+            int start = this.getRowStart(y);
+            int otherStart = other.getRowStart(y);
+            if (!Arrays.equals(this.data, start, start + this.width, other.data, otherStart, otherStart + this.width))
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 31 * this.width + this.height;
+        for (int y = 0; y < this.height; y++) {
+            int start = this.getRowStart(y);
+            for (int i = start; i < start + this.width; i++) {
+                result = 31 * result + Byte.hashCode(this.data[i]);
+            }
+        }
+        return result;
+    }
+}
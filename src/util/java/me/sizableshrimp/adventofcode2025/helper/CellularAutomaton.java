@@ -0,0 +1,232 @@
+/*
+ * AdventOfCode2025
+ * Copyright (C) 2025 SizableShrimp
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.sizableshrimp.adventofcode2025.helper;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Runs a synchronous cellular automaton over a {@link BoolGrid}, where every cell of the next generation is computed
+ * from the current generation by a {@link Rule}.
+ * <p>
+ * The rule may only read cells within one step of the cell being updated, including diagonals. This means only cells
+ * next to a change can change in the following generation, so after the first generation only this frontier is
+ * re-evaluated. Simulations which settle down, like peeling or erosion, then cost time proportional to the total
+ * number of changes rather than the number of generations times the area.
+ * <p>
+ * Generations are double-buffered: the rule reads from the current grid while changes are written to the next grid,
+ * which are then swapped. Large frontiers are split into chunks and evaluated in parallel, with the changes gathered in
+ * chunk order so that results do not depend on scheduling.
+ */
+public class CellularAutomaton {
+    private static final int PARALLEL_THRESHOLD = 1 << 15;
+    private static final int CHUNK_SIZE = 1 << 12;
+    private final Rule rule;
+    private final int[] offsets;
+    /**
+     * The generation each cell was last added to the frontier, or -1 for cells in the border.
+     */
+    private final int[] stamps;
+    private BoolGrid current;
+    private BoolGrid next;
+    private int[] frontier;
+    private int[] nextFrontier;
+    private int frontierSize;
+    private int[] changes;
+    private int generation;
+    private long totalChanges;
+
+    private CellularAutomaton(BoolGrid grid, Rule rule) {
+        this.rule = rule;
+        this.current = grid;
+        this.next = grid.copy();
+        this.offsets = grid.getNeighborOffsets();
+        this.stamps = new int[grid.getData().length];
+        this.frontier = new int[grid.size()];
+        this.nextFrontier = new int[grid.size()];
+        this.changes = new int[grid.size()];
+
+        Arrays.fill(this.stamps, -1);
+        for (int y = 0; y < grid.getHeight(); y++) {
+            int start = grid.getRowStart(y);
+            for (int i = start; i < start + grid.getWidth(); i++) {
+                this.stamps[i] = 0;
+                this.frontier[this.frontierSize++] = i;
+            }
+        }
+    }
+
+    /**
+     * Create an automaton starting from a copy of the given grid.
+     * The copy has a padding of at least 1 so that rules can read the neighbors of any cell, where cells outside the
+     * original grid are always {@code false}.
+     */
+    public static CellularAutomaton of(BoolGrid grid, Rule rule) {
+        BoolGrid copy = new BoolGrid(grid.getWidth(), grid.getHeight(), Math.max(1, grid.getPadding()));
+        for (int y = 0; y < grid.getHeight(); y++) {
+            System.arraycopy(grid.getData(), grid.getRowStart(y), copy.getData(), copy.getRowStart(y), grid.getWidth());
+        }
+        return new CellularAutomaton(copy, rule);
+    }
+
+    /**
+     * Advances by one generation.
+     *
+     * @return the number of cells which changed
+     */
+    public int step() {
+        int numChanges = this.frontierSize >= PARALLEL_THRESHOLD ? this.evaluateParallel() : this.evaluate(0, this.frontierSize, this.changes, 0);
+
+        BoolGrid previous = this.current;
+        this.current = this.next;
+        this.next = previous;
+        for (int c = 0; c < numChanges; c++) {
+            int index = this.changes[c];
+            this.next.setAt(index, this.current.getAt(index));
+        }
+
+        this.generation++;
+        this.totalChanges += numChanges;
+        this.updateFrontier(numChanges);
+        return numChanges;
+    }
+
+    /**
+     * Advances until a generation changes nothing.
+     *
+     * @return the number of generations which changed at least one cell
+     */
+    public int runToFixpoint() {
+        int generations = 0;
+        while (this.step() != 0) {
+            generations++;
+        }
+        return generations;
+    }
+
+    /**
+     * Applies the rule to the frontier from {@code from} to {@code to}, writing each changed cell to the next grid and
+     * its index to {@code out} starting at {@code outStart}.
+     *
+     * @return the number of changed cells
+     */
+    private int evaluate(int from, int to, int[] out, int outStart) {
+        int count = 0;
+        for (int f = from; f < to; f++) {
+            int index = this.frontier[f];
+            boolean alive = this.current.getAt(index);
+            boolean nextAlive = this.rule.apply(this.current, index, alive);
+            if (nextAlive != alive) {
+                this.next.setAt(index, nextAlive);
+                out[outStart + count++] = index;
+            }
+        }
+        return count;
+    }
+
+    private int evaluateParallel() {
+        int numChunks = (this.frontierSize + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        int[][] chunkChanges = new int[numChunks][];
+        int[] chunkCounts = new int[numChunks];
+        IntStream.range(0, numChunks).parallel().forEach(chunk -> {
+            int from = chunk * CHUNK_SIZE;
+            int to = Math.min(this.frontierSize, from + CHUNK_SIZE);
+            chunkChanges[chunk] = new int[to - from];
+            chunkCounts[chunk] = this.evaluate(from, to, chunkChanges[chunk], 0);
+        });
+
+        int numChanges = 0;
+        for (int chunk = 0; chunk < numChunks; chunk++) {
+            System.arraycopy(chunkChanges[chunk], 0, this.changes, numChanges, chunkCounts[chunk]);
+            numChanges += chunkCounts[chunk];
+        }
+        return numChanges;
+    }
+
+    /**
+     * Replaces the frontier with every cell in or next to a changed cell, each added once.
+     */
+    private void updateFrontier(int numChanges) {
+        int size = 0;
+        for (int c = 0; c < numChanges; c++) {
+            int index = this.changes[c];
+            if (this.stamps[index] != this.generation) {
+                this.stamps[index] = this.generation;
+                this.nextFrontier[size++] = index;
+            }
+            for (int offset : this.offsets) {
+                int neighbor = index + offset;
+                if (this.stamps[neighbor] >= 0 && this.stamps[neighbor] != this.generation) {
+                    this.stamps[neighbor] = this.generation;
+                    this.nextFrontier[size++] = neighbor;
+                }
+            }
+        }
+
+        int[] previous = this.frontier;
+        this.frontier = this.nextFrontier;
+        this.nextFrontier = previous;
+        this.frontierSize = size;
+    }
+
+    /**
+     * @return the current generation, which is padded by at least 1 and must not be modified
+     */
+    public BoolGrid getGrid() {
+        return this.current;
+    }
+
+    /**
+     * @return the number of generations run so far
+     */
+    public int getGeneration() {
+        return this.generation;
+    }
+
+    /**
+     * @return the total number of cell changes over every generation so far
+     */
+    public long getTotalChanges() {
+        return this.totalChanges;
+    }
+
+    /**
+     * @return the number of cells which will be evaluated in the next generation
+     */
+    public int getFrontierSize() {
+        return this.frontierSize;
+    }
+
+    @FunctionalInterface
+    public interface Rule {
+        /**
+         * @param grid the current generation, where neighbors can be read by adding {@link BoolGrid#getNeighborOffsets()}
+         * to {@code index}
+         * @param index the index of the cell in {@code grid}
+         * @param alive the current value of the cell
+         * @return the value of the cell in the next generation
+         */
+        boolean apply(BoolGrid grid, int index, boolean alive);
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * AdventOfCode2025
+ * Copyright (C) 2025 SizableShrimp
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.sizableshrimp.adventofcode2025.helper;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.BiPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * A lock-free version of {@link DisjointSet} which can be safely shared between threads,
+ * e.g. to merge clusters from a parallel stream of edges.
+ * <p>
+ * Parents are only ever changed with compare-and-set. {@link #find} compresses paths by halving, and
+ * {@link #union} links roots by a fixed pseudo-random priority instead of by size, which keeps the trees shallow
+ * without any extra shared state to update.
+ */
+public class ConcurrentDisjointSet {
+    private final AtomicIntegerArray parent;
+    private final AtomicInteger numSets;
+
+    /**
+     * Create a disjoint set of the given size.
+     * This size is immutable.
+     * All elements start out in their own disjoint set.
+     *
+     * @param size the size of the disjoint set
+     */
+    public ConcurrentDisjointSet(int size) {
+        this.parent = new AtomicIntegerArray(size);
+        this.numSets = new AtomicInteger(size);
+
+        for (int i = 0; i < size; i++) {
+            this.parent.set(i, i);
+        }
+    }
+
+    /**
+     * Resolve the root of the given element.
+     * If other threads are concurrently merging sets, the root may already be out of date when this returns.
+     *
+     * @param i the starting element
+     * @return the root of the given element
+     */
+    public int find(int i) {
+        while (true) {
+            int parent = this.parent.get(i);
+            if (parent == i)
+                return i;
+
+            int grandparent = this.parent.get(parent);
+            // Point to the grandparent to halve the path; losing this race to another thread is harmless.
+            if (parent != grandparent)
+                this.parent.compareAndSet(i, parent, grandparent);
+            i = grandparent;
+        }
+    }
+
+    /**
+     * Unify two disjointed sets into a merged set.
+     *
+     * @return {@code true} if two sets were merged, {@code false} otherwise
+     * (specifically, when the two items are already part of the same set)
+     */
+    public boolean union(int x, int y) {
+        while (true) {
+            x = find(x);
+            y = find(y);
+            if (x == y)
+                return false;
+
+            // Always link the lower priority root below the higher one so that no cycles can form
+            if (hasLowerPriority(y, x)) {
+                int temp = x;
+                x = y;
+                y = temp;
+            }
+
+            if (this.parent.compareAndSet(x, x, y)) {
+                this.numSets.decrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return whether the two elements are currently in the same set
+     */
+    public boolean isSameSet(int x, int y) {
+        while (true) {
+            x = find(x);
+            y = find(y);
+            if (x == y)
+                return true;
+            // If x is still a root, the two elements were in different sets at the time y's root was found
+            if (this.parent.get(x) == x)
+                return false;
+        }
+    }
+
+    /**
+     * Unify the sets of {@code from[i]} and {@code to[i]} for every index {@code i}, in parallel.
+     */
+    public void unionAll(int[] from, int[] to) {
+        if (from.length != to.length)
+            throw new IllegalArgumentException("Edge arrays have different lengths: " + from.length + " and " + to.length);
+
+        IntStream.range(0, from.length).parallel().forEach(i -> this.union(from[i], to[i]));
+    }
+
+    private static boolean hasLowerPriority(int a, int b) {
+        int aPriority = HashCommon.mix(a);
+        int bPriority = HashCommon.mix(b);
+        return aPriority < bPriority || aPriority == bPriority && a < b;
+    }
+
+    /**
+     * Parallel version of {@link DisjointSet#findClusters}, which checks the pairs of each element in parallel.
+     */
+    public static <T> ConcurrentDisjointSet findClusters(List<T> data, BiPredicate<T, T> inSameCluster) {
+        ConcurrentDisjointSet disjointSet = new ConcurrentDisjointSet(data.size());
+
+        IntStream.range(0, data.size()).parallel().forEach(i -> {
+            T element = data.get(i);
+            for (int j = i + 1; j < data.size(); j++) {
+                if (inSameCluster.test(element, data.get(j))) {
+                    disjointSet.union(i, j);
+                }
+            }
+        });
+
+        return disjointSet;
+    }
+
+    /**
+     * Counts the size of every set, keyed by the root of that set.
+     * This should only be called once no other threads are modifying the sets.
+     */
+    public Int2IntMap resolveSizes() {
+        Int2IntOpenHashMap map = new Int2IntOpenHashMap(this.getNumSets());
+
+        for (int i = 0; i < this.parent.length(); i++) {
+            map.addTo(find(i), 1);
+        }
+
+        return map;
+    }
+
+    public int getNumSets() {
+        return this.numSets.get();
+    }
+}
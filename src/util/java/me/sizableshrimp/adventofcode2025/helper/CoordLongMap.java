@@ -0,0 +1,121 @@
+/*
+ * AdventOfCode2025
+ * Copyright (C) 2025 SizableShrimp
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.sizableshrimp.adventofcode2025.helper;
+
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import me.sizableshrimp.adventofcode2025.templates.Coordinate;
+import me.sizableshrimp.adventofcode2025.templates.PackedCoordinate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A map from coordinates to {@code long} values, keyed by their {@link PackedCoordinate packed} values so that nothing
+ * is boxed. Missing coordinates map to the {@link #defaultReturnValue() default return value}, which is 0 unless
+ * changed. Every {@link Long2LongOpenHashMap} method works directly on packed keys.
+ */
+public class CoordLongMap extends Long2LongOpenHashMap {
+    public CoordLongMap() {}
+
+    public CoordLongMap(int expected) {
+        super(expected);
+    }
+
+    public long get(int x, int y) {
+        return this.get(PackedCoordinate.pack(x, y));
+    }
+
+    public long get(Coordinate coord) {
+        return this.get(PackedCoordinate.pack(coord));
+    }
+
+    public long put(int x, int y, long value) {
+        return this.put(PackedCoordinate.pack(x, y), value);
+    }
+
+    public long put(Coordinate coord, long value) {
+        return this.put(PackedCoordinate.pack(coord), value);
+    }
+
+    /**
+     * Adds {@code delta} to the value of the coordinate, treating a missing coordinate as the default return value.
+     *
+     * @return the previous value
+     */
+    public long addTo(int x, int y, long delta) {
+        return this.addTo(PackedCoordinate.pack(x, y), delta);
+    }
+
+    public long addTo(Coordinate coord, long delta) {
+        return this.addTo(PackedCoordinate.pack(coord), delta);
+    }
+
+    public boolean containsKey(int x, int y) {
+        return this.containsKey(PackedCoordinate.pack(x, y));
+    }
+
+    public boolean containsKey(Coordinate coord) {
+        return this.containsKey(PackedCoordinate.pack(coord));
+    }
+
+    public long remove(int x, int y) {
+        return this.remove(PackedCoordinate.pack(x, y));
+    }
+
+    public long remove(Coordinate coord) {
+        return this.remove(PackedCoordinate.pack(coord));
+    }
+
+    /**
+     * Calls {@code consumer} with each entry in the map, without unpacking the keys into {@link Coordinate}s.
+     */
+    public void forEachCoord(CoordEntryConsumer consumer) {
+        for (Long2LongMap.Entry entry : this.long2LongEntrySet()) {
+            long packed = entry.getLongKey();
+            consumer.accept(PackedCoordinate.getX(packed), PackedCoordinate.getY(packed), entry.getLongValue());
+        }
+    }
+
+    /**
+     * @return a new map with the keys of this map unpacked into {@link Coordinate}s
+     */
+    public Map<Coordinate, Long> toCoordinates() {
+        Map<Coordinate, Long> map = new HashMap<>(this.size());
+        for (Long2LongMap.Entry entry : this.long2LongEntrySet()) {
+            map.put(PackedCoordinate.unpack(entry.getLongKey()), entry.getLongValue());
+        }
+        return map;
+    }
+
+    @Override
+    public CoordLongMap clone() {
+        return (CoordLongMap) super.clone();
+    }
+
+    @FunctionalInterface
+    public interface CoordEntryConsumer {
+        void accept(int x, int y, long value);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * AdventOfCode2025
+ * Copyright (C) 2025 SizableShrimp
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.sizableshrimp.adventofcode2025.helper;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import me.sizableshrimp.adventofcode2025.templates.Coordinate;
+import me.sizableshrimp.adventofcode2025.templates.PackedCoordinate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A map from coordinates to values, keyed by their {@link PackedCoordinate packed} values so that no
+ * {@link Coordinate} or {@link Long} key is allocated per entry.
+ * Every {@link Long2ObjectOpenHashMap} method works directly on packed keys.
+ */
+public class CoordMap<V> extends Long2ObjectOpenHashMap<V> {
+    public CoordMap() {}
+
+    public CoordMap(int expected) {
+        super(expected);
+    }
+
+    public static <V> CoordMap<V> of(Map<Coordinate, V> map) {
+        CoordMap<V> result = new CoordMap<>(map.size());
+        map.forEach(result::put);
+        return result;
+    }
+
+    public V get(int x, int y) {
+        return this.get(PackedCoordinate.pack(x, y));
+    }
+
+    public V get(Coordinate coord) {
+        return this.get(PackedCoordinate.pack(coord));
+    }
+
+    public V put(int x, int y, V value) {
+        return this.put(PackedCoordinate.pack(x, y), value);
+    }
+
+    public V put(Coordinate coord, V value) {
+        return this.put(PackedCoordinate.pack(coord), value);
+    }
+
+    public boolean containsKey(int x, int y) {
+        return this.containsKey(PackedCoordinate.pack(x, y));
+    }
+
+    public boolean containsKey(Coordinate coord) {
+        return this.containsKey(PackedCoordinate.pack(coord));
+    }
+
+    public V remove(int x, int y) {
+        return this.remove(PackedCoordinate.pack(x, y));
+    }
+
+    public V remove(Coordinate coord) {
+        return this.remove(PackedCoordinate.pack(coord));
+    }
+
+    /**
+     * Calls {@code consumer} with each entry in the map, without unpacking the keys into {@link Coordinate}s.
+     */
+    public void forEachCoord(CoordEntryConsumer<? super V> consumer) {
+        for (Long2ObjectMap.Entry<V> entry : this.long2ObjectEntrySet()) {
+            long packed = entry.getLongKey();
+            consumer.accept(PackedCoordinate.getX(packed), PackedCoordinate.getY(packed), entry.getValue());
+        }
+    }
+
+    /**
+     * @return a new map with the keys of this map unpacked into {@link Coordinate}s
+     */
+    public Map<Coordinate, V> toCoordinates() {
+        Map<Coordinate, V> map = new HashMap<>(this.size());
+        for (Long2ObjectMap.Entry<V> entry : this.long2ObjectEntrySet()) {
+            map.put(PackedCoordinate.unpack(entry.getLongKey()), entry.getValue());
+        }
+        return map;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public CoordMap<V> clone() {
+        return (CoordMap<V>) super.clone();
+    }
+
+    @FunctionalInterface
+    public interface CoordEntryConsumer<V> {
+        void accept(int x, int y, V value);
+    }
+}
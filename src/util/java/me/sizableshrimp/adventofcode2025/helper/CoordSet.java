@@ -0,0 +1,108 @@
+/*
+ * AdventOfCode2025
+ * Copyright (C) 2025 SizableShrimp
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.sizableshrimp.adventofcode2025.helper;
+
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import me.sizableshrimp.adventofcode2025.templates.Coordinate;
+import me.sizableshrimp.adventofcode2025.templates.PackedCoordinate;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A set of coordinates stored by their {@link PackedCoordinate packed} values, so no {@link Coordinate} or
+ * {@link Long} is allocated per element. Every {@link LongOpenHashSet} method works directly on packed values.
+ */
+public class CoordSet extends LongOpenHashSet {
+    public CoordSet() {}
+
+    public CoordSet(int expected) {
+        super(expected);
+    }
+
+    public static CoordSet of(Collection<Coordinate> coords) {
+        CoordSet set = new CoordSet(coords.size());
+        for (Coordinate coord : coords) {
+            set.add(coord);
+        }
+        return set;
+    }
+
+    public boolean add(int x, int y) {
+        return this.add(PackedCoordinate.pack(x, y));
+    }
+
+    public boolean add(Coordinate coord) {
+        return this.add(PackedCoordinate.pack(coord));
+    }
+
+    public boolean contains(int x, int y) {
+        return this.contains(PackedCoordinate.pack(x, y));
+    }
+
+    public boolean contains(Coordinate coord) {
+        return this.contains(PackedCoordinate.pack(coord));
+    }
+
+    public boolean remove(int x, int y) {
+        return this.remove(PackedCoordinate.pack(x, y));
+    }
+
+    public boolean remove(Coordinate coord) {
+        return this.remove(PackedCoordinate.pack(coord));
+    }
+
+    /**
+     * Calls {@code consumer} with each coordinate in the set, without unpacking them into {@link Coordinate}s.
+     */
+    public void forEachCoord(CoordConsumer consumer) {
+        for (LongIterator it = this.iterator(); it.hasNext(); ) {
+            long packed = it.nextLong();
+            consumer.accept(PackedCoordinate.getX(packed), PackedCoordinate.getY(packed));
+        }
+    }
+
+    /**
+     * @return a new set of the coordinates in this set, unpacked into {@link Coordinate}s
+     */
+    public Set<Coordinate> toCoordinates() {
+        Set<Coordinate> coords = new HashSet<>(this.size());
+        for (LongIterator it = this.iterator(); it.hasNext(); ) {
+            coords.add(PackedCoordinate.unpack(it.nextLong()));
+        }
+        return coords;
+    }
+
+    @Override
+    public CoordSet clone() {
+        return (CoordSet) super.clone();
+    }
+
+    @FunctionalInterface
+    public interface CoordConsumer {
+        void accept(int x, int y);
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * AdventOfCode2025
+ * Copyright (C) 2025 SizableShrimp
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.sizableshrimp.adventofcode2025.helper;
+
+import java.util.Arrays;
+
+/**
+ * Maps a sparse set of values along one axis to dense ranks, so that huge coordinate spaces can be processed with
+ * arrays sized by the number of distinct values instead of by their range.
+ * <p>
+ * Besides ranks, the axis is also split into slots: every value {@code values[i]} gets the singleton slot {@code 2i},
+ * and the values strictly between it and the next value make up the gap slot {@code 2i + 1}, which may be empty.
+ * Nothing can change within a slot if the values are all of the points where something does change, like the corners
+ * of shapes, so a grid of slots is an exact compressed copy of the full grid.
+ */
+public class CoordinateCompressor {
+    private final long[] values;
+
+    private CoordinateCompressor(long[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Creates a compressor over the distinct values of the given array, which is not modified.
+     */
+    public static CoordinateCompressor of(long... values) {
+        return new CoordinateCompressor(Arrays.stream(values).sorted().distinct().toArray());
+    }
+
+    /**
+     * Creates a compressor over the distinct values of the given array, which is not modified.
+     */
+    public static CoordinateCompressor of(int... values) {
+        return new CoordinateCompressor(Arrays.stream(values).asLongStream().sorted().distinct().toArray());
+    }
+
+    /**
+     * @return the number of distinct values
+     */
+    public int size() {
+        return this.values.length;
+    }
+
+    /**
+     * @return the rank of the given value, or -1 if it is not one of the values
+     */
+    public int rank(long value) {
+        int idx = Arrays.binarySearch(this.values, value);
+        return idx >= 0 ? idx : -1;
+    }
+
+    /**
+     * Ranks every value of the given array, which must all be values of this compressor.
+     *
+     * @return a new array with the rank of each value
+     */
+    public int[] rankAll(long[] values) {
+        int[] ranks = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            int rank = this.rank(values[i]);
+            if (rank == -1)
+                throw new IllegalArgumentException("Unknown value " + values[i]);
+            ranks[i] = rank;
+        }
+        return ranks;
+    }
+
+    /**
+     * @return the number of values less than the given value, which is also the rank of the first value which is
+     * greater than or equal to it
+     */
+    public int countLessThan(long value) {
+        int idx = Arrays.binarySearch(this.values, value);
+        return idx >= 0 ? idx : -idx - 1;
+    }
+
+    /**
+     * @return the rank of the greatest value less than or equal to the given value, or -1 if there is none
+     */
+    public int floorRank(long value) {
+        int idx = Arrays.binarySearch(this.values, value);
+        return idx >= 0 ? idx : -idx - 2;
+    }
+
+    /**
+     * @return the rank of the least value greater than or equal to the given value, or {@link #size()} if there is none
+     */
+    public int ceilRank(long value) {
+        return this.countLessThan(value);
+    }
+
+    public long unrank(int rank) {
+        return this.values[rank];
+    }
+
+    /**
+     * @return the number of slots, which is every singleton and every gap between two values
+     */
+    public int getNumSlots() {
+        return Math.max(this.values.length * 2 - 1, 0);
+    }
+
+    /**
+     * @return the slot containing the given value, or -1 if it is below the first value or above the last value
+     */
+    public int slotOf(long value) {
+        int idx = Arrays.binarySearch(this.values, value);
+        if (idx >= 0)
+            return idx * 2;
+
+        int insertion = -idx - 1;
+        if (insertion == 0 || insertion == this.values.length)
+            return -1;
+        return insertion * 2 - 1;
+    }
+
+    /**
+     * @return the first value within the given slot, inclusive
+     */
+    public long getSlotStart(int slot) {
+        return (slot & 1) == 0 ? this.values[slot >> 1] : this.values[slot >> 1] + 1;
+    }
+
+    /**
+     * @return the last value within the given slot, inclusive
+     */
+    public long getSlotEnd(int slot) {
+        return (slot & 1) == 0 ? this.values[slot >> 1] : this.values[(slot >> 1) + 1] - 1;
+    }
+
+    /**
+     * @return the number of values within the given slot, which is 1 for singletons and may be 0 for gaps
+     */
+    public long getSlotLength(int slot) {
+        return (slot & 1) == 0 ? 1 : this.values[(slot >> 1) + 1] - this.values[slot >> 1] - 1;
+    }
+}
@@ -0,0 +1,330 @@
+/*
+ * AdventOfCode2025
+ * Copyright (C) 2025 SizableShrimp
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.sizableshrimp.adventofcode2025.helper;
+
+import me.sizableshrimp.adventofcode2025.templates.Coordinate;
+import me.sizableshrimp.adventofcode2025.templates.Direction;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A pool of canonical {@link Coordinate} instances for every cell of a bounded region, created once up front.
+ * Moving between cells inside the region through the pool returns existing instances instead of allocating new ones,
+ * and each cell has an index which {@link PooledMap} uses to store values in an array without hashing.
+ * <p>
+ * Coordinates outside the region are still supported, but are allocated as usual.
+ */
+public class CoordinatePool {
+    private final int minX;
+    private final int minY;
+    private final int width;
+    private final int height;
+    private final Coordinate[] coords;
+
+    /**
+     * Create a pool for the region from {@code (0, 0)} to {@code (width - 1, height - 1)}.
+     */
+    public CoordinatePool(int width, int height) {
+        this(0, 0, width, height);
+    }
+
+    /**
+     * Create a pool for the region from {@code (minX, minY)} to {@code (minX + width - 1, minY + height - 1)}.
+     */
+    public CoordinatePool(int minX, int minY, int width, int height) {
+        if (width < 0 || height < 0)
+            throw new IllegalArgumentException("Invalid region size " + width + "x" + height);
+
+        this.minX = minX;
+        this.minY = minY;
+        this.width = width;
+        this.height = height;
+        this.coords = new Coordinate[width * height];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                this.coords[y * width + x] = new Coordinate(minX + x, minY + y);
+            }
+        }
+    }
+
+    /**
+     * @return the number of coordinates in the pool
+     */
+    public int size() {
+        return this.coords.length;
+    }
+
+    public boolean contains(int x, int y) {
+        return x >= this.minX && x < this.minX + this.width && y >= this.minY && y < this.minY + this.height;
+    }
+
+    public boolean contains(Coordinate coord) {
+        return this.contains(coord.x(), coord.y());
+    }
+
+    /**
+     * @return the index of the coordinate in the pool, or -1 if it is outside the region
+     */
+    public int indexOf(int x, int y) {
+        return this.contains(x, y) ? (y - this.minY) * this.width + x - this.minX : -1;
+    }
+
+    public int indexOf(Coordinate coord) {
+        return this.indexOf(coord.x(), coord.y());
+    }
+
+    /**
+     * @return the coordinate at the given index of the pool
+     */
+    public Coordinate get(int index) {
+        return this.coords[index];
+    }
+
+    /**
+     * @return the canonical coordinate if it is inside the region, or a new coordinate otherwise
+     */
+    public Coordinate get(int x, int y) {
+        int index = this.indexOf(x, y);
+        return index == -1 ? new Coordinate(x, y) : this.coords[index];
+    }
+
+    /**
+     * @return the canonical instance equal to {@code coord} if it is inside the region, or {@code coord} itself otherwise
+     */
+    public Coordinate canonical(Coordinate coord) {
+        int index = this.indexOf(coord);
+        return index == -1 ? coord : this.coords[index];
+    }
+
+    public Coordinate resolve(Coordinate coord, int dx, int dy) {
+        return this.get(coord.x() + dx, coord.y() + dy);
+    }
+
+    public Coordinate resolve(Coordinate coord, Direction direction) {
+        return this.resolve(coord, direction.x, direction.y);
+    }
+
+    /**
+     * Pooled equivalent of {@link Coordinate#down()}.
+     */
+    public Coordinate down(Coordinate coord) {
+        return this.resolve(coord, Direction.SOUTH);
+    }
+
+    /**
+     * Pooled equivalent of {@link Coordinate#up()}.
+     */
+    public Coordinate up(Coordinate coord) {
+        return this.resolve(coord, Direction.NORTH);
+    }
+
+    /**
+     * Pooled equivalent of {@link Coordinate#left()}.
+     */
+    public Coordinate left(Coordinate coord) {
+        return this.resolve(coord, Direction.WEST);
+    }
+
+    /**
+     * Pooled equivalent of {@link Coordinate#right()}.
+     */
+    public Coordinate right(Coordinate coord) {
+        return this.resolve(coord, Direction.EAST);
+    }
+
+    /**
+     * @return a new empty map which stores values for coordinates in this pool by index
+     */
+    public <V> PooledMap<V> newMap() {
+        return new PooledMap<>(this);
+    }
+
+    /**
+     * A map from coordinates to values which stores the values of coordinates inside the pool in an array, looked up by
+     * their index in the pool without hashing or comparing keys. Coordinates outside the pool fall back to a
+     * {@link HashMap}. Keys are always returned as canonical instances when inside the pool.
+     * <p>
+     * Like {@link java.util.concurrent.ConcurrentHashMap}, this map does not allow {@code null} values.
+     */
+    public static class PooledMap<V> extends AbstractMap<Coordinate, V> {
+        private final CoordinatePool pool;
+        private final Object[] values;
+        private final Map<Coordinate, V> outside = new HashMap<>();
+        private int insideSize;
+
+        private PooledMap(CoordinatePool pool) {
+            this.pool = pool;
+            this.values = new Object[pool.size()];
+        }
+
+        private int indexOf(Object key) {
+            return key instanceof Coordinate coord ? this.pool.indexOf(coord) : -1;
+        }
+
+        @SuppressWarnings("unchecked")
+        private V getAt(int index) {
+            return (V) this.values[index];
+        }
+
+        @Override
+        public int size() {
+            return this.insideSize + this.outside.size();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            int index = this.indexOf(key);
+            return index == -1 ? this.outside.containsKey(key) : this.values[index] != null;
+        }
+
+        @Override
+        public V get(Object key) {
+            int index = this.indexOf(key);
+            return index == -1 ? this.outside.get(key) : this.getAt(index);
+        }
+
+        public V get(int x, int y) {
+            int index = this.pool.indexOf(x, y);
+            return index == -1 ? this.outside.get(new Coordinate(x, y)) : this.getAt(index);
+        }
+
+        @Override
+        public V put(Coordinate key, V value) {
+            Objects.requireNonNull(value);
+            int index = this.pool.indexOf(key);
+            if (index == -1)
+                return this.outside.put(key, value);
+
+            V previous = this.getAt(index);
+            this.values[index] = value;
+            if (previous == null)
+                this.insideSize++;
+            return previous;
+        }
+
+        @Override
+        public V remove(Object key) {
+            int index = this.indexOf(key);
+            if (index == -1)
+                return this.outside.remove(key);
+
+            V previous = this.getAt(index);
+            if (previous != null) {
+                this.values[index] = null;
+                this.insideSize--;
+            }
+            return previous;
+        }
+
+        @Override
+        public void clear() {
+            Arrays.fill(this.values, null);
+            this.insideSize = 0;
+            this.outside.clear();
+        }
+
+        @Override
+        public Set<Entry<Coordinate, V>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return PooledMap.this.size();
+                }
+
+                @Override
+                public Iterator<Entry<Coordinate, V>> iterator() {
+                    return new EntryIterator();
+                }
+            };
+        }
+
+        /**
+         * Iterates over the coordinates inside the pool in index order, followed by the coordinates outside.
+         */
+        private class EntryIterator implements Iterator<Entry<Coordinate, V>> {
+            private final Iterator<Entry<Coordinate, V>> outsideIterator = PooledMap.this.outside.entrySet().iterator();
+            private int nextIndex = this.findNext(0);
+            private int lastIndex = -1;
+            private boolean lastOutside;
+
+            private int findNext(int from) {
+                Object[] values = PooledMap.this.values;
+                while (from < values.length && values[from] == null) {
+                    from++;
+                }
+                return from;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return this.nextIndex < PooledMap.this.values.length || this.outsideIterator.hasNext();
+            }
+
+            @Override
+            public Entry<Coordinate, V> next() {
+                if (this.nextIndex < PooledMap.this.values.length) {
+                    int index = this.lastIndex = this.nextIndex;
+                    this.lastOutside = false;
+                    this.nextIndex = this.findNext(index + 1);
+                    return new SimpleEntry<>(PooledMap.this.pool.get(index), PooledMap.this.getAt(index)) {
+                        @Override
+                        public V setValue(V value) {
+                            PooledMap.this.values[index] = Objects.requireNonNull(value);
+                            return super.setValue(value);
+                        }
+                    };
+                }
+                if (!this.outsideIterator.hasNext())
+                    throw new NoSuchElementException();
+
+                this.lastIndex = -1;
+                this.lastOutside = true;
+                return this.outsideIterator.next();
+            }
+
+            @Override
+            public void remove() {
+                if (this.lastOutside) {
+                    this.outsideIterator.remove();
+                    this.lastOutside = false;
+                    return;
+                }
+                if (this.lastIndex == -1)
+                    throw new IllegalStateException();
+
+                PooledMap.this.values[this.lastIndex] = null;
+                PooledMap.this.insideSize--;
+                this.lastIndex = -1;
+            }
+        }
+    }
+}
@@ -23,7 +23,10 @@
 
 package me.sizableshrimp.adventofcode2025.helper;
 
-import it.unimi.dsi.fastutil.ints.Int2IntArrayMap;
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2IntRBTreeMap;
+import it.unimi.dsi.fastutil.ints.IntBidirectionalIterator;
 
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -36,7 +39,14 @@ import java.util.function.BiPredicate;
  */
 public class DisjointSet {
     private final int[] parent;
-    private final int[] rank;
+    /**
+     * The number of elements in each set, only kept up to date for roots.
+     */
+    private final int[] size;
+    /**
+     * Counts how many sets there are of each size, so the largest sets can be found without scanning every element.
+     */
+    private final Int2IntRBTreeMap sizeCounts = new Int2IntRBTreeMap();
     private int numSets;
 
     /**
@@ -48,12 +58,16 @@ public class DisjointSet {
      */
     public DisjointSet(int size) {
         this.parent = new int[size];
-        this.rank = new int[size];
+        this.size = new int[size];
         this.numSets = size;
 
         for (int i = 0; i < size; i++) {
             this.parent[i] = i;
+            this.size[i] = 1;
         }
+
+        if (size > 0)
+            this.sizeCounts.put(1, size);
     }
 
     /**
@@ -63,12 +77,16 @@ public class DisjointSet {
      * @return the root of the given element
      */
     public int find(int i) {
-        int child = this.parent[i];
-        if (i == child)
-            return i;
+        int parent = this.parent[i];
+        while (i != parent) {
+            // Optimize future calls by halving the path, pointing each element we visit to its grandparent.
+            int grandparent = this.parent[parent];
+            this.parent[i] = grandparent;
+            i = grandparent;
+            parent = this.parent[i];
+        }
 
-        // Optimize future calls with the same input by collapsing the path.
-        return this.parent[i] = find(child);
+        return i;
     }
 
     /**
@@ -84,15 +102,19 @@ public class DisjointSet {
         int xRoot = find(x);
         int yRoot = find(y);
         if (xRoot != yRoot) {
-            int xRank = this.rank[xRoot];
-            int yRank = this.rank[yRoot];
-            if (xRank < yRank) {
+            int xSize = this.size[xRoot];
+            int ySize = this.size[yRoot];
+            // Link the smaller set below the larger one
+            if (xSize < ySize) {
                 this.parent[xRoot] = yRoot;
+                this.size[yRoot] = xSize + ySize;
             } else {
                 this.parent[yRoot] = xRoot;
-                if (xRank == yRank)
-                    this.rank[xRoot]++;
+                this.size[xRoot] = xSize + ySize;
             }
+            this.decrementSizeCount(xSize);
+            this.decrementSizeCount(ySize);
+            this.sizeCounts.mergeInt(xSize + ySize, 1, Integer::sum);
             this.numSets--;
             return true;
         }
@@ -100,6 +122,49 @@ public class DisjointSet {
         return false;
     }
 
+    private void decrementSizeCount(int size) {
+        int count = this.sizeCounts.get(size);
+        if (count == 1) {
+            this.sizeCounts.remove(size);
+        } else {
+            this.sizeCounts.put(size, count - 1);
+        }
+    }
+
+    /**
+     * @return the number of elements in the same set as the given element
+     */
+    public int getSize(int i) {
+        return this.size[find(i)];
+    }
+
+    /**
+     * Finds the sizes of the {@code k} largest sets, which only takes time proportional to {@code k}
+     * since the number of sets of each size is updated on every {@link #union}.
+     *
+     * @param k the number of sizes to find
+     * @return the sizes of the {@code k} largest sets in descending order,
+     * or of every set if there are less than {@code k} of them
+     */
+    public int[] getLargestSizes(int k) {
+        int[] result = new int[Math.min(k, this.numSets)];
+        if (result.length == 0)
+            return result;
+
+        int filled = 0;
+        IntBidirectionalIterator iterator = this.sizeCounts.keySet().iterator(this.sizeCounts.lastIntKey());
+        // The iterator starts after the last key, so the first call to previousInt() returns it
+        while (filled < result.length) {
+            int size = iterator.previousInt();
+            int count = Math.min(this.sizeCounts.get(size), result.length - filled);
+            for (int i = 0; i < count; i++) {
+                result[filled++] = size;
+            }
+        }
+
+        return result;
+    }
+
     public static <T> DisjointSet findClusters(List<T> data, BiPredicate<T, T> inSameCluster) {
         DisjointSet disjointSet = new DisjointSet(data.size());
 
@@ -116,7 +181,7 @@ public class DisjointSet {
     }
 
     public <T> List<Set<T>> resolve(List<T> data) {
-        Int2IntArrayMap map = new Int2IntArrayMap(this.numSets);
+        Int2IntOpenHashMap map = new Int2IntOpenHashMap(this.numSets);
         for (int i = 0; i < this.parent.length; i++) {
             int root = find(i);
             map.putIfAbsent(root, map.size());
@@ -137,12 +202,15 @@ public class DisjointSet {
         return result;
     }
 
-    public Int2IntArrayMap resolveSizes() {
-        Int2IntArrayMap map = new Int2IntArrayMap(this.numSets);
+    /**
+     * @return the size of every set, keyed by the root of that set
+     */
+    public Int2IntMap resolveSizes() {
+        Int2IntOpenHashMap map = new Int2IntOpenHashMap(this.numSets);
 
         for (int i = 0; i < this.parent.length; i++) {
-            int root = find(i);
-            map.mergeInt(root, 1, Integer::sum);
+            if (this.parent[i] == i)
+                map.put(i, this.size[i]);
         }
 
         return map;
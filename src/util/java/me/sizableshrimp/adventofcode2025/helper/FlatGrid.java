@@ -0,0 +1,207 @@
+/*
+ * AdventOfCode2025
+ * Copyright (C) 2025 SizableShrimp
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.sizableshrimp.adventofcode2025.helper;
+
+import me.sizableshrimp.adventofcode2025.templates.Coordinate;
+import me.sizableshrimp.adventofcode2025.templates.Direction;
+
+/**
+ * The shared shape of the flat grids, which store a whole 2D grid row by row in a single primitive array instead of
+ * one array per row.
+ * <p>
+ * A grid can be surrounded by a border of {@code padding} cells on each side, so that any neighbor within
+ * {@code padding} steps of a cell can be read without checking bounds. Border cells hold the default value of the
+ * element type unless changed with {@code fillBorder}.
+ * <p>
+ * Cells are addressed by {@code (x, y)}, or by their raw index into the backing array from {@link #index(int, int)},
+ * where moving one row down adds {@link #getStride()} to the index.
+ */
+public abstract class FlatGrid {
+    protected final int width;
+    protected final int height;
+    protected final int padding;
+    protected final int stride;
+    private final int[] neighborOffsets;
+
+    protected FlatGrid(int width, int height, int padding) {
+        if (width < 0 || height < 0 || padding < 0)
+            throw new IllegalArgumentException("Invalid grid size " + width + "x" + height + " with padding " + padding);
+
+        this.width = width;
+        this.height = height;
+        this.padding = padding;
+        this.stride = width + 2 * padding;
+
+        // Computed inline rather than with getOffset, which subclasses could override before they are initialized
+        Direction[] directions = Direction.cardinalOrdinalDirections();
+        this.neighborOffsets = new int[directions.length];
+        for (int i = 0; i < directions.length; i++) {
+            this.neighborOffsets[i] = directions[i].y * this.stride + directions[i].x;
+        }
+    }
+
+    public int getWidth() {
+        return this.width;
+    }
+
+    public int getHeight() {
+        return this.height;
+    }
+
+    public int getPadding() {
+        return this.padding;
+    }
+
+    /**
+     * @return the distance between the indices of two vertically adjacent cells
+     */
+    public int getStride() {
+        return this.stride;
+    }
+
+    /**
+     * @return the number of cells inside the grid, not counting the border
+     */
+    public int size() {
+        return this.width * this.height;
+    }
+
+    /**
+     * @return the length of the backing array, including the border
+     */
+    protected int getLength() {
+        return this.stride * (this.height + 2 * this.padding);
+    }
+
+    public int index(int x, int y) {
+        return (y + this.padding) * this.stride + x + this.padding;
+    }
+
+    public int index(Coordinate coord) {
+        return this.index(coord.x(), coord.y());
+    }
+
+    /**
+     * @return the index of the first cell in row {@code y}
+     */
+    public int getRowStart(int y) {
+        return this.index(0, y);
+    }
+
+    /**
+     * @return the amount to add to an index to move by {@code (dx, dy)}
+     */
+    public int getOffset(int dx, int dy) {
+        return dy * this.stride + dx;
+    }
+
+    /**
+     * @return the amount to add to an index to move one step in the given direction
+     */
+    public int getOffset(Direction dir) {
+        return this.getOffset(dir.x, dir.y);
+    }
+
+    /**
+     * @return the offset to each neighbor of a cell, in the order of {@link Direction#cardinalOrdinalDirections()}.
+     * A grid with a padding of at least 1 can add these to the index of any cell without going out of bounds.
+     * The array is shared rather than copied since it is read for every cell in neighbor loops, so it must not be modified.
+     */
+    public int[] getNeighborOffsets() {
+        return this.neighborOffsets;
+    }
+
+    public int getX(int index) {
+        return index % this.stride - this.padding;
+    }
+
+    public int getY(int index) {
+        return index / this.stride - this.padding;
+    }
+
+    public Coordinate getCoordinate(int index) {
+        return Coordinate.of(this.getX(index), this.getY(index));
+    }
+
+    public boolean isValid(int x, int y) {
+        return x >= 0 && x < this.width && y >= 0 && y < this.height;
+    }
+
+    public boolean isValid(Coordinate coord) {
+        return this.isValid(coord.x(), coord.y());
+    }
+
+    protected boolean hasSameSize(FlatGrid other) {
+        return this.width == other.width && this.height == other.height;
+    }
+
+    /**
+     * Calls {@code filler} with each run of indices inside the grid, which is one per row.
+     */
+    protected void forEachInsideRange(RangeFiller filler) {
+        for (int y = 0; y < this.height; y++) {
+            int start = this.getRowStart(y);
+            filler.fill(start, start + this.width);
+        }
+    }
+
+    /**
+     * Calls {@code filler} with each run of indices in the border around the grid.
+     */
+    protected void forEachBorderRange(RangeFiller filler) {
+        if (this.padding == 0)
+            return;
+
+        int length = this.getLength();
+        int topEnd = this.padding * this.stride;
+        filler.fill(0, topEnd);
+        for (int y = 0; y < this.height; y++) {
+            int start = this.getRowStart(y);
+            filler.fill(start - this.padding, start);
+            filler.fill(start + this.width, start + this.width + this.padding);
+        }
+        filler.fill(length - topEnd, length);
+    }
+
+    protected abstract void appendCell(StringBuilder builder, int index);
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (int y = 0; y < this.height; y++) {
+            if (y != 0)
+                builder.append('\n');
+            int start = this.getRowStart(y);
+            for (int i = start; i < start + this.width; i++) {
+                this.appendCell(builder, i);
+            }
+        }
+        return builder.toString();
+    }
+
+    @FunctionalInterface
+    protected interface RangeFiller {
+        void fill(int from, int to);
+    }
+}
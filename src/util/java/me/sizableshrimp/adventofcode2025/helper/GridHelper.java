@@ -24,6 +24,7 @@
 package me.sizableshrimp.adventofcode2025.helper;
 
 import it.unimi.dsi.fastutil.chars.Char2BooleanFunction;
+import it.unimi.dsi.fastutil.chars.Char2ByteFunction;
 import it.unimi.dsi.fastutil.chars.Char2CharFunction;
 import it.unimi.dsi.fastutil.chars.Char2IntFunction;
 import it.unimi.dsi.fastutil.chars.Char2LongFunction;
@@ -73,6 +74,52 @@ public class GridHelper {
         return coords;
     }
 
+    /**
+     * Packed equivalent of {@link #convertToSet(List, Char2BooleanFunction)}.
+     */
+    public static CoordSet convertToCoordSet(List<String> lines, Char2BooleanFunction func) {
+        CoordSet coords = new CoordSet();
+
+        for (int y = 0; y < lines.size(); y++) {
+            String line = lines.get(y);
+            for (int x = 0; x < line.length(); x++) {
+                if (func.get(line.charAt(x)))
+                    coords.add(x, y);
+            }
+        }
+
+        return coords;
+    }
+
+    /**
+     * Checks that a line of input fits in a grid row of the given width.
+     *
+     * @throws IllegalArgumentException if the line is longer than {@code width}
+     */
+    public static void checkLineWidth(String line, int width) {
+        if (line.length() > width)
+            throw new IllegalArgumentException("Line of length " + line.length() + " is longer than the grid width " + width + ": " + line);
+    }
+
+    /**
+     * Checks that every line fits in the given flat grid, which does not bounds check its rows and would otherwise let
+     * an overlong line spill into the next row or the border.
+     *
+     * @throws IllegalArgumentException if there are more lines than rows or any line is longer than the grid width
+     */
+    public static void checkLinesFit(FlatGrid grid, List<String> lines) {
+        if (lines.size() > grid.getHeight())
+            throw new IllegalArgumentException(lines.size() + " lines do not fit in a grid of height " + grid.getHeight());
+        for (String line : lines) {
+            checkLineWidth(line, grid.getWidth());
+        }
+    }
+
+    private static void convertFlat(FlatGrid grid, List<String> lines, GridConsumer consumer) {
+        checkLinesFit(grid, lines);
+        convert(lines, consumer);
+    }
+
     private static void convert(List<String> lines, GridConsumer consumer) {
         for (int y = 0; y < lines.size(); y++) {
             String line = lines.get(y);
@@ -202,6 +249,23 @@ public class GridHelper {
         return grid;
     }
 
+    /**
+     * Creates a grid which is {@code true} wherever the input has {@code target},
+     * which is faster than a {@link CharPredicate} for large inputs.
+     * Like the other converters, the width is taken from the first line and shorter lines leave the rest of their row empty.
+     */
+    public static boolean[][] convertBool(List<String> lines, char target) {
+        if (!GridKernels.isMatchable(target))
+            return convertBool(lines, c -> c == target);
+
+        boolean[][] grid = new boolean[lines.size()][GridKernels.getWidth(lines)];
+        for (int y = 0; y < grid.length; y++) {
+            byte[] bytes = GridKernels.getBytes(lines.get(y), grid[y].length);
+            GridKernels.match(bytes, 0, (byte) target, grid[y], 0, bytes.length);
+        }
+        return grid;
+    }
+
     public static int[][] convertInt(List<String> lines, Char2IntFunction func) {
         return convertInt(new int[lines.size()][lines.get(0).length()], lines, func);
     }
@@ -209,12 +273,18 @@ public class GridHelper {
     /**
      * Creates a grid of single-digit integers based on the integer character
      * at each point in the provided grid.
+     * The width is taken from the first line and shorter lines leave the rest of their row as 0.
      *
      * @param lines the input lines to form a grid from
      * @return the 2D grid of single-digit integers
      */
     public static int[][] createIntGrid(List<String> lines) {
-        return convertInt(lines, c -> c - '0');
+        int[][] grid = new int[lines.size()][GridKernels.getWidth(lines)];
+        for (int y = 0; y < grid.length; y++) {
+            byte[] bytes = GridKernels.getBytes(lines.get(y), grid[y].length);
+            GridKernels.digits(bytes, 0, grid[y], 0, bytes.length);
+        }
+        return grid;
     }
 
     public static int[][] convertInt(int[][] grid, List<String> lines, Char2IntFunction func) {
@@ -248,6 +318,112 @@ public class GridHelper {
         return grid;
     }
 
+    // region Flat grid conversions
+    public static BoolGrid convertFlatBool(List<String> lines, CharPredicate pred) {
+        return convertFlatBool(lines, pred, 0);
+    }
+
+    public static BoolGrid convertFlatBool(List<String> lines, CharPredicate pred, int padding) {
+        return convertFlatBool(new BoolGrid(lines.get(0).length(), lines.size(), padding), lines, pred);
+    }
+
+    public static BoolGrid convertFlatBool(BoolGrid grid, List<String> lines, CharPredicate pred) {
+        convertFlat(grid, lines, (y, x, c) -> grid.set(x, y, pred.test(c)));
+        return grid;
+    }
+
+    /**
+     * Flat equivalent of {@link #convertBool(List, char)}.
+     */
+    public static BoolGrid convertFlatBool(List<String> lines, char target) {
+        return convertFlatBool(lines, target, 0);
+    }
+
+    public static BoolGrid convertFlatBool(List<String> lines, char target, int padding) {
+        if (!GridKernels.isMatchable(target))
+            return convertFlatBool(lines, c -> c == target, padding);
+
+        BoolGrid grid = new BoolGrid(GridKernels.getWidth(lines), lines.size(), padding);
+        for (int y = 0; y < grid.getHeight(); y++) {
+            byte[] bytes = GridKernels.getBytes(lines.get(y), grid.getWidth());
+            GridKernels.match(bytes, 0, (byte) target, grid.getData(), grid.getRowStart(y), bytes.length);
+        }
+        return grid;
+    }
+
+    public static ByteGrid convertFlatByte(List<String> lines, Char2ByteFunction func) {
+        return convertFlatByte(lines, func, 0);
+    }
+
+    public static ByteGrid convertFlatByte(List<String> lines, Char2ByteFunction func, int padding) {
+        return convertFlatByte(new ByteGrid(lines.get(0).length(), lines.size(), padding), lines, func);
+    }
+
+    public static ByteGrid convertFlatByte(ByteGrid grid, List<String> lines, Char2ByteFunction func) {
+        convertFlat(grid, lines, (y, x, c) -> grid.set(x, y, func.get(c)));
+        return grid;
+    }
+
+    public static IntGrid convertFlatInt(List<String> lines, Char2IntFunction func) {
+        return convertFlatInt(lines, func, 0);
+    }
+
+    public static IntGrid convertFlatInt(List<String> lines, Char2IntFunction func, int padding) {
+        return convertFlatInt(new IntGrid(lines.get(0).length(), lines.size(), padding), lines, func);
+    }
+
+    public static IntGrid convertFlatInt(IntGrid grid, List<String> lines, Char2IntFunction func) {
+        convertFlat(grid, lines, (y, x, c) -> grid.set(x, y, func.get(c)));
+        return grid;
+    }
+
+    /**
+     * Flat equivalent of {@link #createIntGrid(List)}.
+     */
+    public static IntGrid createFlatIntGrid(List<String> lines) {
+        IntGrid grid = new IntGrid(GridKernels.getWidth(lines), lines.size());
+        for (int y = 0; y < grid.getHeight(); y++) {
+            byte[] bytes = GridKernels.getBytes(lines.get(y), grid.getWidth());
+            GridKernels.digits(bytes, 0, grid.getData(), grid.getRowStart(y), bytes.length);
+        }
+        return grid;
+    }
+
+    public static LongGrid convertFlatLong(List<String> lines, Char2LongFunction func) {
+        return convertFlatLong(lines, func, 0);
+    }
+
+    public static LongGrid convertFlatLong(List<String> lines, Char2LongFunction func, int padding) {
+        return convertFlatLong(new LongGrid(lines.get(0).length(), lines.size(), padding), lines, func);
+    }
+
+    public static LongGrid convertFlatLong(LongGrid grid, List<String> lines, Char2LongFunction func) {
+        convertFlat(grid, lines, (y, x, c) -> grid.set(x, y, func.get(c)));
+        return grid;
+    }
+
+    public static CharGrid convertFlatChar(List<String> lines) {
+        return convertFlatChar(lines, Char2CharFunction.identity());
+    }
+
+    public static CharGrid createFlatCharGrid(List<String> lines) {
+        return convertFlatChar(lines);
+    }
+
+    public static CharGrid convertFlatChar(List<String> lines, Char2CharFunction func) {
+        return convertFlatChar(lines, func, 0);
+    }
+
+    public static CharGrid convertFlatChar(List<String> lines, Char2CharFunction func, int padding) {
+        return convertFlatChar(new CharGrid(lines.get(0).length(), lines.size(), padding), lines, func);
+    }
+
+    public static CharGrid convertFlatChar(CharGrid grid, List<String> lines, Char2CharFunction func) {
+        convertFlat(grid, lines, (y, x, c) -> grid.set(x, y, func.get(c)));
+        return grid;
+    }
+    // endregion
+
     public static Coordinate findCoordinate(List<String> lines, char targetChar) {
         for (int y = 0; y < lines.size(); y++) {
             String line = lines.get(y);
@@ -325,10 +501,7 @@ public class GridHelper {
     public static int countOccurrences(int[][] grid, int target) {
         int result = 0;
         for (int[] row : grid) {
-            for (int i : row) {
-                if (i == target)
-                    result++;
-            }
+            result += GridKernels.countEquals(row, 0, row.length, target);
         }
         return result;
     }
@@ -440,10 +613,8 @@ public class GridHelper {
     public static int countOccurrences(boolean[][] grid, boolean target) {
         int result = 0;
         for (boolean[] row : grid) {
-            for (boolean b : row) {
-                if (b == target)
-                    result++;
-            }
+            int count = GridKernels.count(row, 0, row.length);
+            result += target ? count : row.length - count;
         }
         return result;
     }
@@ -0,0 +1,509 @@
+/*
+ * AdventOfCode2025
+ * Copyright (C) 2025 SizableShrimp
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.sizableshrimp.adventofcode2025.helper;
+
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import me.sizableshrimp.adventofcode2025.helper.KdTree.Metric;
+import me.sizableshrimp.adventofcode2025.templates.Coordinate;
+import me.sizableshrimp.adventofcode2025.templates.LongCoordinate;
+import me.sizableshrimp.adventofcode2025.templates.ZCoordinate;
+import me.sizableshrimp.adventofcode2025.templates.ZLongCoordinate;
+
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * An immutable uniform grid of buckets over 2D or 3D points, where each point is filed under the cube of side length
+ * {@code cellSize} containing it, for nearest neighbor, k-nearest, radius and box queries.
+ * This beats a {@link KdTree} for radius and box queries about the size of a cell over evenly spread points,
+ * and for nearest queries whose answers are usually within a few cells of the query.
+ * <p>
+ * Only the occupied cells are stored, sorted by x, then y, then z, with the points of each cell stored contiguously.
+ * This means memory is linear in the number of points no matter how sparse they are.
+ * Queries never allocate and only read the index, so one index can be shared between threads.
+ * 2D indices treat their points as lying on the plane {@code z = 0}.
+ */
+public class GridIndex {
+    private final int dimensions;
+    private final long cellSize;
+    private final long[] cellXs;
+    private final long[] cellYs;
+    private final long[] cellZs;
+    /**
+     * The points of cell {@code c} are at positions {@code offsets[c]} (inclusive) to {@code offsets[c + 1]} (exclusive).
+     */
+    private final int[] offsets;
+    private final int[] points;
+    private final long[] xs;
+    private final long[] ys;
+    private final long[] zs;
+
+    private GridIndex(long[] xs, long[] ys, long[] zs, int dimensions, long cellSize) {
+        int n = xs.length;
+        if (ys.length != n || zs.length != n)
+            throw new IllegalArgumentException("Axes must be the same length");
+        if (cellSize <= 0)
+            throw new IllegalArgumentException("Cell size must be positive");
+
+        this.dimensions = dimensions;
+        this.cellSize = cellSize;
+
+        long[] pointCellXs = new long[n];
+        long[] pointCellYs = new long[n];
+        long[] pointCellZs = new long[n];
+        this.points = new int[n];
+        for (int i = 0; i < n; i++) {
+            pointCellXs[i] = Math.floorDiv(xs[i], cellSize);
+            pointCellYs[i] = Math.floorDiv(ys[i], cellSize);
+            pointCellZs[i] = Math.floorDiv(zs[i], cellSize);
+            this.points[i] = i;
+        }
+        IntArrays.parallelQuickSort(this.points, (a, b) -> {
+            int cmp = Long.compare(pointCellXs[a], pointCellXs[b]);
+            if (cmp == 0)
+                cmp = Long.compare(pointCellYs[a], pointCellYs[b]);
+            if (cmp == 0)
+                cmp = Long.compare(pointCellZs[a], pointCellZs[b]);
+            return cmp == 0 ? Integer.compare(a, b) : cmp;
+        });
+
+        int numCells = 0;
+        for (int i = 0; i < n; i++) {
+            if (i == 0 || !this.isSameCell(pointCellXs, pointCellYs, pointCellZs, this.points[i - 1], this.points[i]))
+                numCells++;
+        }
+
+        this.cellXs = new long[numCells];
+        this.cellYs = new long[numCells];
+        this.cellZs = new long[numCells];
+        this.offsets = new int[numCells + 1];
+        this.xs = new long[n];
+        this.ys = new long[n];
+        this.zs = new long[n];
+        int cell = -1;
+        for (int i = 0; i < n; i++) {
+            int point = this.points[i];
+            if (i == 0 || !this.isSameCell(pointCellXs, pointCellYs, pointCellZs, this.points[i - 1], point)) {
+                cell++;
+                this.cellXs[cell] = pointCellXs[point];
+                this.cellYs[cell] = pointCellYs[point];
+                this.cellZs[cell] = pointCellZs[point];
+                this.offsets[cell] = i;
+            }
+            this.xs[i] = xs[point];
+            this.ys[i] = ys[point];
+            this.zs[i] = zs[point];
+        }
+        this.offsets[numCells] = n;
+    }
+
+    private boolean isSameCell(long[] cellXs, long[] cellYs, long[] cellZs, int a, int b) {
+        return cellXs[a] == cellXs[b] && cellYs[a] == cellYs[b] && cellZs[a] == cellZs[b];
+    }
+
+    public static GridIndex of(long[] xs, long[] ys, long cellSize) {
+        return new GridIndex(xs, ys, new long[xs.length], 2, cellSize);
+    }
+
+    public static GridIndex of(long[] xs, long[] ys, long[] zs, long cellSize) {
+        return new GridIndex(xs, ys, zs, 3, cellSize);
+    }
+
+    public static GridIndex of2D(List<Coordinate> coords, long cellSize) {
+        int n = coords.size();
+        long[] xs = new long[n];
+        long[] ys = new long[n];
+        for (int i = 0; i < n; i++) {
+            Coordinate coord = coords.get(i);
+            xs[i] = coord.x();
+            ys[i] = coord.y();
+        }
+        return of(xs, ys, cellSize);
+    }
+
+    public static GridIndex of3D(List<ZCoordinate> coords, long cellSize) {
+        int n = coords.size();
+        long[] xs = new long[n];
+        long[] ys = new long[n];
+        long[] zs = new long[n];
+        for (int i = 0; i < n; i++) {
+            ZCoordinate coord = coords.get(i);
+            xs[i] = coord.x();
+            ys[i] = coord.y();
+            zs[i] = coord.z();
+        }
+        return of(xs, ys, zs, cellSize);
+    }
+
+    public static GridIndex ofLong2D(List<LongCoordinate> coords, long cellSize) {
+        int n = coords.size();
+        long[] xs = new long[n];
+        long[] ys = new long[n];
+        for (int i = 0; i < n; i++) {
+            LongCoordinate coord = coords.get(i);
+            xs[i] = coord.x();
+            ys[i] = coord.y();
+        }
+        return of(xs, ys, cellSize);
+    }
+
+    public static GridIndex ofLong3D(List<ZLongCoordinate> coords, long cellSize) {
+        int n = coords.size();
+        long[] xs = new long[n];
+        long[] ys = new long[n];
+        long[] zs = new long[n];
+        for (int i = 0; i < n; i++) {
+            ZLongCoordinate coord = coords.get(i);
+            xs[i] = coord.x();
+            ys[i] = coord.y();
+            zs[i] = coord.z();
+        }
+        return of(xs, ys, zs, cellSize);
+    }
+
+    public int size() {
+        return this.points.length;
+    }
+
+    public int getDimensions() {
+        return this.dimensions;
+    }
+
+    public long getCellSize() {
+        return this.cellSize;
+    }
+
+    /**
+     * @return the number of cells containing at least one point
+     */
+    public int getNumCells() {
+        return this.cellXs.length;
+    }
+
+    // region Nearest
+
+    public int nearest(Metric metric, long x, long y) {
+        return this.nearest(metric, x, y, 0);
+    }
+
+    /**
+     * Convenience for a single query; use {@link #kNearest} with reused one-element buffers to avoid allocating.
+     *
+     * @return the index of the point closest to the query, or -1 if the index is empty
+     */
+    public int nearest(Metric metric, long x, long y, long z) {
+        int[] resultIdx = {-1};
+        long[] resultDist = new long[1];
+        this.kNearest(metric, x, y, z, -1, resultIdx, resultDist);
+        return resultIdx[0];
+    }
+
+    public int kNearest(Metric metric, long x, long y, int[] resultIdx, long[] resultDist) {
+        return this.kNearest(metric, x, y, 0, -1, resultIdx, resultDist);
+    }
+
+    public int kNearest(Metric metric, long x, long y, long z, int[] resultIdx, long[] resultDist) {
+        return this.kNearest(metric, x, y, z, -1, resultIdx, resultDist);
+    }
+
+    /**
+     * Finds the {@code resultIdx.length} points closest to the query with an index greater than {@code minIndex},
+     * ordered by distance and then index, exactly like {@link KdTree#kNearest(Metric, long, long, long, int, int[], long[])}.
+     * <p>
+     * Cells are searched in rings of growing distance from the cell of the query until no closer point can remain.
+     * Once the rings would probe more cells than are occupied, the remaining occupied cells are scanned directly instead,
+     * so far away or missing answers cost no more than a linear scan.
+     *
+     * @param resultIdx the buffer to fill with the indices of the closest points
+     * @param resultDist the buffer to fill with the distances of the closest points, at least as long as {@code resultIdx}
+     * @return how many points were found, which is only less than {@code resultIdx.length} if there are not enough points
+     */
+    public int kNearest(Metric metric, long x, long y, long z, int minIndex, int[] resultIdx, long[] resultDist) {
+        if (resultIdx.length == 0)
+            return 0;
+
+        long queryCellX = Math.floorDiv(x, this.cellSize);
+        long queryCellY = Math.floorDiv(y, this.cellSize);
+        long queryCellZ = this.dimensions == 2 ? 0 : Math.floorDiv(z, this.cellSize);
+        int numCells = this.cellXs.length;
+        long probes = 0;
+        int size = 0;
+
+        for (long ring = 0; ; ring++) {
+            // Each run of cells along the last axis costs one binary search
+            long side = 2 * ring + 1;
+            probes += this.dimensions == 2 ? side : side * side;
+            if (probes > numCells) {
+                for (int cell = 0; cell < numCells; cell++) {
+                    if (this.getRing(cell, queryCellX, queryCellY, queryCellZ) >= ring)
+                        size = this.offerCell(cell, metric, x, y, z, minIndex, resultIdx, resultDist, size);
+                }
+                break;
+            }
+
+            size = this.searchRing(ring, queryCellX, queryCellY, queryCellZ, metric, x, y, z, minIndex,
+                    resultIdx, resultDist, size);
+
+            // Every point in the next ring is at least this far away along some axis
+            if (size == resultIdx.length && metric.axisDistance(ring * this.cellSize + 1) > resultDist[0])
+                break;
+        }
+
+        KdTree.sortResults(resultIdx, resultDist, size);
+        return size;
+    }
+
+    /**
+     * Offers the points of every occupied cell whose distance from the query cell along its furthest axis is
+     * exactly {@code ring}.
+     */
+    private int searchRing(long ring, long queryCellX, long queryCellY, long queryCellZ, Metric metric,
+            long x, long y, long z, int minIndex, int[] resultIdx, long[] resultDist, int size) {
+        for (long cx = queryCellX - ring; cx <= queryCellX + ring; cx++) {
+            boolean edgeX = Math.abs(cx - queryCellX) == ring;
+            if (this.dimensions == 2) {
+                if (edgeX) {
+                    size = this.searchRun(cx, 0, queryCellY - ring, queryCellY + ring,
+                            metric, x, y, z, minIndex, resultIdx, resultDist, size);
+                } else {
+                    size = this.searchRun(cx, 0, queryCellY - ring, queryCellY - ring,
+                            metric, x, y, z, minIndex, resultIdx, resultDist, size);
+                    size = this.searchRun(cx, 0, queryCellY + ring, queryCellY + ring,
+                            metric, x, y, z, minIndex, resultIdx, resultDist, size);
+                }
+                continue;
+            }
+
+            for (long cy = queryCellY - ring; cy <= queryCellY + ring; cy++) {
+                if (edgeX || Math.abs(cy - queryCellY) == ring) {
+                    size = this.searchRun(cx, cy, queryCellZ - ring, queryCellZ + ring,
+                            metric, x, y, z, minIndex, resultIdx, resultDist, size);
+                } else {
+                    size = this.searchRun(cx, cy, queryCellZ - ring, queryCellZ - ring,
+                            metric, x, y, z, minIndex, resultIdx, resultDist, size);
+                    size = this.searchRun(cx, cy, queryCellZ + ring, queryCellZ + ring,
+                            metric, x, y, z, minIndex, resultIdx, resultDist, size);
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Offers the points of the occupied cells from {@code min} to {@code max} along the last axis, which is y for 2D
+     * indices (where {@code cy} is ignored) and z for 3D indices.
+     */
+    private int searchRun(long cx, long cy, long min, long max, Metric metric, long x, long y, long z, int minIndex,
+            int[] resultIdx, long[] resultDist, int size) {
+        int numCells = this.cellXs.length;
+        if (this.dimensions == 2) {
+            for (int cell = this.lowerBound(cx, min, 0); cell < numCells && this.cellXs[cell] == cx
+                    && this.cellYs[cell] <= max; cell++) {
+                size = this.offerCell(cell, metric, x, y, z, minIndex, resultIdx, resultDist, size);
+            }
+        } else {
+            for (int cell = this.lowerBound(cx, cy, min); cell < numCells && this.cellXs[cell] == cx
+                    && this.cellYs[cell] == cy && this.cellZs[cell] <= max; cell++) {
+                size = this.offerCell(cell, metric, x, y, z, minIndex, resultIdx, resultDist, size);
+            }
+        }
+        return size;
+    }
+
+    private int offerCell(int cell, Metric metric, long x, long y, long z, int minIndex,
+            int[] resultIdx, long[] resultDist, int size) {
+        for (int i = this.offsets[cell]; i < this.offsets[cell + 1]; i++) {
+            int point = this.points[i];
+            if (point > minIndex) {
+                size = KdTree.offerResult(point, metric.distance(this.xs[i] - x, this.ys[i] - y, this.zs[i] - z),
+                        resultIdx, resultDist, size);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * @return the distance from the query cell to the given cell along their furthest axis
+     */
+    private long getRing(int cell, long queryCellX, long queryCellY, long queryCellZ) {
+        return Math.max(Math.abs(this.cellXs[cell] - queryCellX),
+                Math.max(Math.abs(this.cellYs[cell] - queryCellY), Math.abs(this.cellZs[cell] - queryCellZ)));
+    }
+
+    // endregion
+
+    // region Radius
+
+    public int forEachInRadius(Metric metric, long x, long y, long radius, IntConsumer consumer) {
+        return this.forEachInRadius(metric, x, y, 0, radius, consumer);
+    }
+
+    /**
+     * Visits every point within {@code radius} of the query, inclusive, in no particular order.
+     *
+     * @return the number of points visited
+     */
+    public int forEachInRadius(Metric metric, long x, long y, long z, long radius, IntConsumer consumer) {
+        if (radius < 0)
+            return 0;
+
+        // The furthest any point within the radius can be along a single axis
+        long reach = metric == Metric.MANHATTAN ? radius : (long) Math.sqrt((double) radius) + 1;
+        long zReach = this.dimensions == 2 ? 0 : reach;
+        return this.visitCells(x - reach, y - reach, z - zReach, x + reach, y + reach, z + zReach,
+                metric, x, y, z, radius, consumer);
+    }
+
+    public int countInRadius(Metric metric, long x, long y, long radius) {
+        return this.forEachInRadius(metric, x, y, 0, radius, null);
+    }
+
+    public int countInRadius(Metric metric, long x, long y, long z, long radius) {
+        return this.forEachInRadius(metric, x, y, z, radius, null);
+    }
+
+    // endregion
+
+    // region Box
+
+    public int forEachInBox(long minX, long minY, long maxX, long maxY, IntConsumer consumer) {
+        return this.forEachInBox(minX, minY, 0, maxX, maxY, 0, consumer);
+    }
+
+    /**
+     * Visits every point within the given axis-aligned box, inclusive, in no particular order.
+     *
+     * @return the number of points visited
+     */
+    public int forEachInBox(long minX, long minY, long minZ, long maxX, long maxY, long maxZ, IntConsumer consumer) {
+        return this.visitCells(minX, minY, minZ, maxX, maxY, maxZ, null, 0, 0, 0, 0, consumer);
+    }
+
+    public int countInBox(long minX, long minY, long maxX, long maxY) {
+        return this.forEachInBox(minX, minY, 0, maxX, maxY, 0, null);
+    }
+
+    public int countInBox(long minX, long minY, long minZ, long maxX, long maxY, long maxZ) {
+        return this.forEachInBox(minX, minY, minZ, maxX, maxY, maxZ, null);
+    }
+
+    // endregion
+
+    /**
+     * Visits the points of every occupied cell overlapping the given box which are also inside the box,
+     * or within {@code radius} of the query if {@code metric} is not null.
+     * If the box covers more cells than are occupied, every occupied cell is checked instead.
+     *
+     * @return the number of points visited
+     */
+    private int visitCells(long minX, long minY, long minZ, long maxX, long maxY, long maxZ,
+            Metric metric, long x, long y, long z, long radius, IntConsumer consumer) {
+        long minCellX = Math.floorDiv(minX, this.cellSize);
+        long minCellY = Math.floorDiv(minY, this.cellSize);
+        long minCellZ = Math.floorDiv(minZ, this.cellSize);
+        long maxCellX = Math.floorDiv(maxX, this.cellSize);
+        long maxCellY = Math.floorDiv(maxY, this.cellSize);
+        long maxCellZ = Math.floorDiv(maxZ, this.cellSize);
+        if (minCellX > maxCellX || minCellY > maxCellY || minCellZ > maxCellZ)
+            return 0;
+
+        int count = 0;
+        int numCells = this.cellXs.length;
+        // The last axis is walked through in order within each run of cells, so only the leading axes are looped over
+        long spanX = maxCellX - minCellX + 1;
+        long spanY = this.dimensions == 2 ? 1 : maxCellY - minCellY + 1;
+        if (spanX <= 0 || spanY <= 0 || spanX > numCells || spanY > numCells || spanX * spanY > numCells) {
+            for (int cell = 0; cell < numCells; cell++) {
+                if (this.isCellInside(cell, minCellX, minCellY, minCellZ, maxCellX, maxCellY, maxCellZ))
+                    count += this.visitCell(cell, minX, minY, minZ, maxX, maxY, maxZ, metric, x, y, z, radius, consumer);
+            }
+            return count;
+        }
+
+        for (long cx = minCellX; cx <= maxCellX; cx++) {
+            if (this.dimensions == 2) {
+                for (int cell = this.lowerBound(cx, minCellY, 0); cell < numCells && this.cellXs[cell] == cx
+                        && this.cellYs[cell] <= maxCellY; cell++) {
+                    count += this.visitCell(cell, minX, minY, minZ, maxX, maxY, maxZ, metric, x, y, z, radius, consumer);
+                }
+                continue;
+            }
+
+            for (long cy = minCellY; cy <= maxCellY; cy++) {
+                for (int cell = this.lowerBound(cx, cy, minCellZ); cell < numCells && this.cellXs[cell] == cx
+                        && this.cellYs[cell] == cy && this.cellZs[cell] <= maxCellZ; cell++) {
+                    count += this.visitCell(cell, minX, minY, minZ, maxX, maxY, maxZ, metric, x, y, z, radius, consumer);
+                }
+            }
+        }
+
+        return count;
+    }
+
+    private int visitCell(int cell, long minX, long minY, long minZ, long maxX, long maxY, long maxZ,
+            Metric metric, long x, long y, long z, long radius, IntConsumer consumer) {
+        int count = 0;
+        for (int i = this.offsets[cell]; i < this.offsets[cell + 1]; i++) {
+            long px = this.xs[i];
+            long py = this.ys[i];
+            long pz = this.zs[i];
+            if (px < minX || px > maxX || py < minY || py > maxY || pz < minZ || pz > maxZ)
+                continue;
+            if (metric != null && metric.distance(px - x, py - y, pz - z) > radius)
+                continue;
+            if (consumer != null)
+                consumer.accept(this.points[i]);
+            count++;
+        }
+        return count;
+    }
+
+    private boolean isCellInside(int cell, long minCellX, long minCellY, long minCellZ, long maxCellX, long maxCellY, long maxCellZ) {
+        return this.cellXs[cell] >= minCellX && this.cellXs[cell] <= maxCellX
+                && this.cellYs[cell] >= minCellY && this.cellYs[cell] <= maxCellY
+                && this.cellZs[cell] >= minCellZ && this.cellZs[cell] <= maxCellZ;
+    }
+
+    /**
+     * @return the first occupied cell which is not before the given cell
+     */
+    private int lowerBound(long cx, long cy, long cz) {
+        int lo = 0;
+        int hi = this.cellXs.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int cmp = Long.compare(this.cellXs[mid], cx);
+            if (cmp == 0)
+                cmp = Long.compare(this.cellYs[mid], cy);
+            if (cmp == 0)
+                cmp = Long.compare(this.cellZs[mid], cz);
+            if (cmp < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
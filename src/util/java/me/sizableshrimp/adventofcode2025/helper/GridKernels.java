@@ -0,0 +1,227 @@
+/*
+ * AdventOfCode2025
+ * Copyright (C) 2025 SizableShrimp
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.sizableshrimp.adventofcode2025.helper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Bulk kernels for parsing, scanning and combining the backing arrays of grids.
+ * <p>
+ * When the {@code jdk.incubator.vector} module is present, which requires running with
+ * {@code --add-modules jdk.incubator.vector}, the kernels use SIMD instructions through the Vector API.
+ * Otherwise, they fall back to plain scalar loops with the same results.
+ * Ranges are given by a start index (inclusive) and an end index (exclusive), or by a start index and a length.
+ */
+public final class GridKernels {
+    private static final boolean VECTORIZED = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    private GridKernels() {}
+
+    /**
+     * @return whether the kernels are backed by the Vector API, rather than the scalar fallback
+     */
+    public static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    /**
+     * Sets each of {@code length} cells of {@code dst} to whether the matching byte of {@code src} is {@code target}.
+     */
+    public static void match(byte[] src, int srcOffset, byte target, boolean[] dst, int dstOffset, int length) {
+        if (VECTORIZED) {
+            VectorGridKernels.match(src, srcOffset, target, dst, dstOffset, length);
+            return;
+        }
+
+        for (int i = 0; i < length; i++) {
+            dst[dstOffset + i] = src[srcOffset + i] == target;
+        }
+    }
+
+    /**
+     * Sets each of {@code length} cells of {@code dst} to the value of the matching digit character of {@code src}.
+     * Bytes are read as unsigned Latin-1 characters, so non-digits give the same values as {@code c - '0'} on a char.
+     */
+    public static void digits(byte[] src, int srcOffset, int[] dst, int dstOffset, int length) {
+        if (VECTORIZED) {
+            VectorGridKernels.digits(src, srcOffset, dst, dstOffset, length);
+            return;
+        }
+
+        for (int i = 0; i < length; i++) {
+            dst[dstOffset + i] = (src[srcOffset + i] & 0xFF) - '0';
+        }
+    }
+
+    /**
+     * @return the number of {@code true} values from {@code from} to {@code to}
+     */
+    public static int count(boolean[] data, int from, int to) {
+        if (VECTORIZED)
+            return VectorGridKernels.count(data, from, to);
+
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (data[i])
+                count++;
+        }
+        return count;
+    }
+
+    /**
+     * @return the number of values equal to {@code target} from {@code from} to {@code to}
+     */
+    public static int countEquals(int[] data, int from, int to, int target) {
+        if (VECTORIZED)
+            return VectorGridKernels.countEquals(data, from, to, target);
+
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (data[i] == target)
+                count++;
+        }
+        return count;
+    }
+
+    /**
+     * @return the sum of the values from {@code from} to {@code to}, which is computed with longs so it cannot overflow
+     */
+    public static long sum(int[] data, int from, int to) {
+        if (VECTORIZED)
+            return VectorGridKernels.sum(data, from, to);
+
+        long sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += data[i];
+        }
+        return sum;
+    }
+
+    /**
+     * @return the sum of the values from {@code from} to {@code to}
+     */
+    public static long sum(long[] data, int from, int to) {
+        if (VECTORIZED)
+            return VectorGridKernels.sum(data, from, to);
+
+        long sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += data[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Sets each value of {@code dst} from {@code from} to {@code to} to {@code op} applied to the values of
+     * {@code a} and {@code b}. {@code dst} may be the same array as either input.
+     */
+    public static void combine(Combine op, boolean[] a, boolean[] b, boolean[] dst, int from, int to) {
+        if (VECTORIZED) {
+            VectorGridKernels.combine(op, a, b, dst, from, to);
+            return;
+        }
+
+        for (int i = from; i < to; i++) {
+            dst[i] = op.apply(a[i], b[i]);
+        }
+    }
+
+    /**
+     * Sets each value of {@code dst} from {@code from} to {@code to} to {@code op} applied bitwise to the values of
+     * {@code a} and {@code b}. {@code dst} may be the same array as either input.
+     */
+    public static void combine(Combine op, long[] a, long[] b, long[] dst, int from, int to) {
+        if (VECTORIZED) {
+            VectorGridKernels.combine(op, a, b, dst, from, to);
+            return;
+        }
+
+        for (int i = from; i < to; i++) {
+            dst[i] = op.apply(a[i], b[i]);
+        }
+    }
+
+    /**
+     * Sets each value of {@code dst} from {@code from} to {@code to} to the sum of the values of {@code a} and
+     * {@code b}. {@code dst} may be the same array as either input.
+     */
+    public static void add(int[] a, int[] b, int[] dst, int from, int to) {
+        if (VECTORIZED) {
+            VectorGridKernels.add(a, b, dst, from, to);
+            return;
+        }
+
+        for (int i = from; i < to; i++) {
+            dst[i] = a[i] + b[i];
+        }
+    }
+
+    /**
+     * Returns the bytes of a row of input as Latin-1, so any character outside of it is read as {@code '?'}.
+     * Rows may be shorter than the grid, in which case the rest of the row is left untouched.
+     *
+     * @throws IllegalArgumentException if the row is longer than {@code width}
+     */
+    static byte[] getBytes(String line, int width) {
+        GridHelper.checkLineWidth(line, width);
+        return line.getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * @return whether {@code c} can be matched exactly against bytes from {@link #getBytes(String, int)}
+     */
+    static boolean isMatchable(char c) {
+        return c <= 0xFF && c != '?';
+    }
+
+    /**
+     * @return the length of the first line, which every line is expected to match
+     */
+    static int getWidth(List<String> lines) {
+        return lines.isEmpty() ? 0 : lines.get(0).length();
+    }
+
+    public enum Combine {
+        AND, OR, XOR, AND_NOT;
+
+        public boolean apply(boolean a, boolean b) {
+            return switch (this) {
+                case AND -> a & b;
+                case OR -> a | b;
+                case XOR -> a ^ b;
+                case AND_NOT -> a & !b;
+            };
+        }
+
+        public long apply(long a, long b) {
+            return switch (this) {
+                case AND -> a & b;
+                case OR -> a | b;
+                case XOR -> a ^ b;
+                case AND_NOT -> a & ~b;
+            };
+        }
+    }
+}
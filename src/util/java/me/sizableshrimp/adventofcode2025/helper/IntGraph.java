@@ -0,0 +1,244 @@
+/*
+ * AdventOfCode2025
+ * Copyright (C) 2025 SizableShrimp
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.sizableshrimp.adventofcode2025.helper;
+
+import it.unimi.dsi.fastutil.ints.IntList;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * An immutable directed graph over the dense ids {@code 0} to {@code size() - 1}.
+ * <p>
+ * Edges are stored in compressed sparse row form: the successors of {@code node} are
+ * {@code getTarget(e)} for every edge {@code e} from {@code getEdgeStart(node)} (inclusive) to
+ * {@code getEdgeEnd(node)} (exclusive), which lets hot loops walk the graph without touching any objects.
+ * Use {@link LabeledGraph} to build one of these from string (or any other) node labels.
+ */
+public class IntGraph {
+    private final int[] offsets;
+    private final int[] targets;
+
+    private IntGraph(int[] offsets, int[] targets) {
+        this.offsets = offsets;
+        this.targets = targets;
+    }
+
+    /**
+     * Creates a graph with {@code size} nodes and a directed edge from {@code from.getInt(i)} to {@code to.getInt(i)}
+     * for every index {@code i}. Successors keep the order in which their edges were given.
+     */
+    public static IntGraph fromEdges(int size, IntList from, IntList to) {
+        if (from.size() != to.size())
+            throw new IllegalArgumentException("Edge lists have different sizes: " + from.size() + " and " + to.size());
+
+        int[] offsets = new int[size + 1];
+        for (int i = 0; i < from.size(); i++) {
+            offsets[from.getInt(i) + 1]++;
+        }
+        for (int i = 0; i < size; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+
+        int[] targets = new int[from.size()];
+        int[] next = Arrays.copyOf(offsets, size);
+        for (int i = 0; i < from.size(); i++) {
+            targets[next[from.getInt(i)]++] = to.getInt(i);
+        }
+
+        return new IntGraph(offsets, targets);
+    }
+
+    public int size() {
+        return this.offsets.length - 1;
+    }
+
+    public int getNumEdges() {
+        return this.targets.length;
+    }
+
+    public int getOutDegree(int node) {
+        return this.offsets[node + 1] - this.offsets[node];
+    }
+
+    public int getEdgeStart(int node) {
+        return this.offsets[node];
+    }
+
+    public int getEdgeEnd(int node) {
+        return this.offsets[node + 1];
+    }
+
+    public int getTarget(int edge) {
+        return this.targets[edge];
+    }
+
+    public int[] getSuccessors(int node) {
+        return Arrays.copyOfRange(this.targets, this.offsets[node], this.offsets[node + 1]);
+    }
+
+    /**
+     * @return a new graph with the direction of every edge flipped
+     */
+    public IntGraph reverse() {
+        int size = this.size();
+        int[] offsets = new int[size + 1];
+        for (int target : this.targets) {
+            offsets[target + 1]++;
+        }
+        for (int i = 0; i < size; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+
+        int[] targets = new int[this.targets.length];
+        int[] next = Arrays.copyOf(offsets, size);
+        for (int node = 0; node < size; node++) {
+            for (int e = this.offsets[node]; e < this.offsets[node + 1]; e++) {
+                targets[next[this.targets[e]]++] = node;
+            }
+        }
+
+        return new IntGraph(offsets, targets);
+    }
+
+    /**
+     * Sorts every node of the graph so that each edge points from an earlier node to a later one, using Kahn's algorithm.
+     *
+     * @return the nodes in topological order
+     * @throws IllegalStateException if the graph contains a cycle
+     */
+    public int[] topologicalSort() {
+        int size = this.size();
+        int[] inDegree = new int[size];
+        for (int target : this.targets) {
+            inDegree[target]++;
+        }
+
+        int[] order = new int[size];
+        int tail = 0;
+        for (int node = 0; node < size; node++) {
+            if (inDegree[node] == 0)
+                order[tail++] = node;
+        }
+
+        for (int head = 0; head < tail; head++) {
+            int node = order[head];
+            for (int e = this.offsets[node]; e < this.offsets[node + 1]; e++) {
+                int next = this.targets[e];
+                if (--inDegree[next] == 0)
+                    order[tail++] = next;
+            }
+        }
+
+        if (tail != size)
+            throw new IllegalStateException("Graph contains a cycle");
+
+        return order;
+    }
+
+    /**
+     * Sorts only the nodes reachable from {@code source} into topological order, so cycles elsewhere in the graph are allowed.
+     *
+     * @param source the node to start from, which is always first in the result
+     * @return the reachable nodes in topological order
+     * @throws IllegalStateException if a cycle is reachable from {@code source}
+     */
+    public int[] topologicalSort(int source) {
+        int size = this.size();
+        // 0 = unvisited, 1 = on the DFS stack, 2 = finished
+        byte[] state = new byte[size];
+        int[] stack = new int[size];
+        int[] edgeIdx = new int[size];
+        int[] postOrder = new int[size];
+        int finished = 0;
+        int depth = 0;
+
+        stack[depth++] = source;
+        state[source] = 1;
+        edgeIdx[source] = this.offsets[source];
+
+        while (depth > 0) {
+            int node = stack[depth - 1];
+            if (edgeIdx[node] < this.offsets[node + 1]) {
+                int next = this.targets[edgeIdx[node]++];
+                if (state[next] == 1)
+                    throw new IllegalStateException("Graph contains a cycle reachable from " + source);
+                if (state[next] == 0) {
+                    state[next] = 1;
+                    edgeIdx[next] = this.offsets[next];
+                    stack[depth++] = next;
+                }
+            } else {
+                state[node] = 2;
+                postOrder[finished++] = node;
+                depth--;
+            }
+        }
+
+        int[] order = new int[finished];
+        for (int i = 0; i < finished; i++) {
+            order[i] = postOrder[finished - i - 1];
+        }
+        return order;
+    }
+
+    /**
+     * Counts the distinct paths from {@code from} to {@code to} with one sweep over the topological order of the nodes
+     * reachable from {@code from}. See {@link PathCounter} for paths with required nodes or counts that overflow a {@code long}.
+     *
+     * @throws IllegalStateException if a cycle is reachable from {@code from}
+     * @throws ArithmeticException if the count overflows a {@code long}
+     */
+    public long countPaths(int from, int to) {
+        return PathCounter.countPaths(this, from, to);
+    }
+
+    /**
+     * @return every node reachable from {@code source}, including itself
+     */
+    public BitSet getReachable(int source) {
+        BitSet seen = new BitSet(this.size());
+        int[] queue = new int[this.size()];
+        int tail = 0;
+        queue[tail++] = source;
+        seen.set(source);
+
+        for (int head = 0; head < tail; head++) {
+            int node = queue[head];
+            for (int e = this.offsets[node]; e < this.offsets[node + 1]; e++) {
+                int next = this.targets[e];
+                if (!seen.get(next)) {
+                    seen.set(next);
+                    queue[tail++] = next;
+                }
+            }
+        }
+
+        return seen;
+    }
+
+    public boolean isReachable(int from, int to) {
+        return from == to || this.getReachable(from).get(to);
+    }
+}
@@ -0,0 +1,351 @@
+/*
+ * AdventOfCode2025
+ * Copyright (C) 2025 SizableShrimp
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.sizableshrimp.adventofcode2025.helper;
+
+import it.unimi.dsi.fastutil.longs.LongArrays;
+
+import java.util.Arrays;
+
+/**
+ * An immutable set of {@code long} values stored as sorted, disjoint intervals with inclusive ends, like the merged
+ * ingredient ID ranges on Day 5 of Advent of Code 2025.
+ * <p>
+ * The intervals are normalized so that no two of them overlap or touch, which makes every set of values have exactly
+ * one representation. They are stored as parallel arrays of starts and ends, so membership is a binary search.
+ */
+public class IntervalSet {
+    public static final IntervalSet EMPTY = new IntervalSet(new long[0], new long[0]);
+
+    private final long[] starts;
+    private final long[] ends;
+
+    private IntervalSet(long[] starts, long[] ends) {
+        this.starts = starts;
+        this.ends = ends;
+    }
+
+    /**
+     * @return a set of every value from {@code start} to {@code end}, inclusive, which is empty if {@code start > end}
+     */
+    public static IntervalSet of(long start, long end) {
+        return start > end ? EMPTY : new IntervalSet(new long[]{start}, new long[]{end});
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the number of disjoint intervals
+     */
+    public int size() {
+        return this.starts.length;
+    }
+
+    public boolean isEmpty() {
+        return this.starts.length == 0;
+    }
+
+    public long getStart(int interval) {
+        return this.starts[interval];
+    }
+
+    public long getEnd(int interval) {
+        return this.ends[interval];
+    }
+
+    /**
+     * @return the number of values in this set
+     */
+    public long totalLength() {
+        long total = 0;
+        for (int i = 0; i < this.starts.length; i++) {
+            total += this.ends[i] - this.starts[i] + 1;
+        }
+        return total;
+    }
+
+    /**
+     * @return the index of the interval containing the value, or -1 if there is none
+     */
+    public int indexOf(long value) {
+        // Find the last interval starting at or before the value
+        int lo = 0;
+        int hi = this.starts.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (this.starts[mid] <= value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo > 0 && value <= this.ends[lo - 1] ? lo - 1 : -1;
+    }
+
+    public boolean contains(long value) {
+        return this.indexOf(value) != -1;
+    }
+
+    /**
+     * @return {@code true} if every value from {@code start} to {@code end}, inclusive, is in this set
+     */
+    public boolean containsAll(long start, long end) {
+        int idx = this.indexOf(start);
+        return idx != -1 && end <= this.ends[idx];
+    }
+
+    /**
+     * Tests the membership of every value of the given array.
+     *
+     * @return a new array of whether each value is in this set
+     */
+    public boolean[] contains(long[] values) {
+        boolean[] result = new boolean[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = this.contains(values[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Counts the values of the given array which are in this set, including duplicates.
+     * Sorted arrays are handled with a single merge pass instead of a binary search per value.
+     */
+    public int countContained(long[] values) {
+        if (!isSorted(values)) {
+            int count = 0;
+            for (long value : values) {
+                if (this.contains(value))
+                    count++;
+            }
+            return count;
+        }
+
+        int count = 0;
+        int interval = 0;
+        for (long value : values) {
+            while (interval < this.starts.length && this.ends[interval] < value) {
+                interval++;
+            }
+            if (interval == this.starts.length)
+                break;
+            if (this.starts[interval] <= value)
+                count++;
+        }
+        return count;
+    }
+
+    private static boolean isSorted(long[] values) {
+        for (int i = 1; i < values.length; i++) {
+            if (values[i - 1] > values[i])
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return {@code true} if any value from {@code start} to {@code end}, inclusive, is in this set
+     */
+    public boolean overlaps(long start, long end) {
+        if (start > end)
+            return false;
+        // The first interval that ends at or after the start must also begin by the end
+        int lo = 0;
+        int hi = this.ends.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (this.ends[mid] < start) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo < this.starts.length && this.starts[lo] <= end;
+    }
+
+    public IntervalSet union(IntervalSet other) {
+        Builder builder = new Builder(this.starts.length + other.starts.length);
+        int i = 0;
+        int j = 0;
+        // Merge in order of start so the builder can skip sorting
+        while (i < this.starts.length || j < other.starts.length) {
+            if (j == other.starts.length || i < this.starts.length && this.starts[i] <= other.starts[j]) {
+                builder.add(this.starts[i], this.ends[i]);
+                i++;
+            } else {
+                builder.add(other.starts[j], other.ends[j]);
+                j++;
+            }
+        }
+        return builder.build();
+    }
+
+    public IntervalSet intersect(IntervalSet other) {
+        Builder builder = new Builder(this.starts.length + other.starts.length);
+        int i = 0;
+        int j = 0;
+        while (i < this.starts.length && j < other.starts.length) {
+            long start = Math.max(this.starts[i], other.starts[j]);
+            long end = Math.min(this.ends[i], other.ends[j]);
+            if (start <= end)
+                builder.add(start, end);
+            // Whichever interval ends first cannot overlap anything else
+            if (this.ends[i] < other.ends[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return the values of this set which are not in {@code other}
+     */
+    public IntervalSet difference(IntervalSet other) {
+        Builder builder = new Builder(this.starts.length + other.starts.length);
+        int j = 0;
+        for (int i = 0; i < this.starts.length; i++) {
+            long start = this.starts[i];
+            long end = this.ends[i];
+            // Intervals of other ending before this one cannot overlap any later interval either
+            while (j < other.starts.length && other.ends[j] < start) {
+                j++;
+            }
+
+            boolean covered = false;
+            for (int k = j; k < other.starts.length && other.starts[k] <= end; k++) {
+                if (other.starts[k] > start)
+                    builder.add(start, other.starts[k] - 1);
+                if (other.ends[k] >= end) {
+                    covered = true;
+                    break;
+                }
+                start = other.ends[k] + 1;
+            }
+            if (!covered)
+                builder.add(start, end);
+        }
+        return builder.build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof IntervalSet other))
+            return false;
+        return Arrays.equals(this.starts, other.starts) && Arrays.equals(this.ends, other.ends);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(this.starts) + Arrays.hashCode(this.ends);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < this.starts.length; i++) {
+            if (i > 0)
+                sb.append(", ");
+            sb.append(this.starts[i]).append("..").append(this.ends[i]);
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * Collects intervals in any order, possibly overlapping, then sorts and merges them all at once when built.
+     * The sort is skipped if the intervals were added in order of start.
+     */
+    public static class Builder {
+        private long[] starts;
+        private long[] ends;
+        private int size;
+        /**
+         * Whether every interval so far was added in order of start, in which case {@link #build()} can skip sorting.
+         */
+        private boolean sorted = true;
+
+        private Builder() {
+            this(16);
+        }
+
+        private Builder(int capacity) {
+            this.starts = new long[Math.max(capacity, 1)];
+            this.ends = new long[Math.max(capacity, 1)];
+        }
+
+        /**
+         * Adds every value from {@code start} to {@code end}, inclusive, which does nothing if {@code start > end}.
+         */
+        public Builder add(long start, long end) {
+            if (start > end)
+                return this;
+
+            if (this.size == this.starts.length) {
+                this.starts = Arrays.copyOf(this.starts, this.size * 2);
+                this.ends = Arrays.copyOf(this.ends, this.size * 2);
+            }
+            if (this.size > 0 && start < this.starts[this.size - 1])
+                this.sorted = false;
+            this.starts[this.size] = start;
+            this.ends[this.size] = end;
+            this.size++;
+            return this;
+        }
+
+        public Builder addAll(IntervalSet set) {
+            for (int i = 0; i < set.starts.length; i++) {
+                this.add(set.starts[i], set.ends[i]);
+            }
+            return this;
+        }
+
+        public IntervalSet build() {
+            if (this.size == 0)
+                return EMPTY;
+
+            long[] starts = Arrays.copyOf(this.starts, this.size);
+            long[] ends = Arrays.copyOf(this.ends, this.size);
+            if (!this.sorted)
+                LongArrays.quickSort(starts, ends);
+
+            int count = 0;
+            for (int i = 0; i < starts.length; i++) {
+                // Merge into the previous interval if they overlap or touch, being careful of overflow at Long.MAX_VALUE
+                if (count > 0 && (ends[count - 1] == Long.MAX_VALUE || starts[i] <= ends[count - 1] + 1)) {
+                    ends[count - 1] = Math.max(ends[count - 1], ends[i]);
+                } else {
+                    starts[count] = starts[i];
+                    ends[count] = ends[i];
+                    count++;
+                }
+            }
+
+            return new IntervalSet(Arrays.copyOf(starts, count), Arrays.copyOf(ends, count));
+        }
+    }
+}
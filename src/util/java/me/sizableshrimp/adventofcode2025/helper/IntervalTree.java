@@ -0,0 +1,322 @@
+/*
+ * AdventOfCode2025
+ * Copyright (C) 2025 SizableShrimp
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.sizableshrimp.adventofcode2025.helper;
+
+import it.unimi.dsi.fastutil.HashCommon;
+
+import java.util.Arrays;
+
+/**
+ * A dynamic set of intervals with inclusive ends supporting insertion, deletion, stabbing queries and overlap
+ * enumeration, for sweep-line solutions where the active intervals change over time.
+ * <p>
+ * This is a treap ordered by start, then end, then id, where each node also tracks the greatest end within its subtree
+ * so that subtrees which end before a query can be skipped entirely. Nodes are stored in parallel arrays and
+ * identified by an id which is returned on insertion, and the ids of removed intervals are reused.
+ * Every operation takes expected {@code O(log n)} time, plus the number of intervals visited.
+ */
+public class IntervalTree {
+    private long[] starts;
+    private long[] ends;
+    private long[] maxEnds;
+    private int[] priorities;
+    private int[] left;
+    private int[] right;
+    private int root = -1;
+    private int size;
+    /**
+     * The number of ids ever handed out, where ids below this are either in the tree or on the free list.
+     */
+    private int numIds;
+    /**
+     * The first free id, linked through {@link #right}.
+     */
+    private int freeList = -1;
+    private int insertions;
+
+    // The two halves of the last split, which are consumed immediately by the caller
+    private int splitLeft;
+    private int splitRight;
+
+    public IntervalTree() {
+        this(16);
+    }
+
+    public IntervalTree(int capacity) {
+        capacity = Math.max(capacity, 1);
+        this.starts = new long[capacity];
+        this.ends = new long[capacity];
+        this.maxEnds = new long[capacity];
+        this.priorities = new int[capacity];
+        this.left = new int[capacity];
+        this.right = new int[capacity];
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public long getStart(int id) {
+        return this.starts[id];
+    }
+
+    public long getEnd(int id) {
+        return this.ends[id];
+    }
+
+    /**
+     * Inserts the interval from {@code start} to {@code end}, inclusive. Duplicate intervals are kept separately.
+     *
+     * @return the id of the new interval, valid until it is removed
+     */
+    public int insert(long start, long end) {
+        if (start > end)
+            throw new IllegalArgumentException("Interval start " + start + " is after end " + end);
+
+        int id = this.allocate();
+        this.starts[id] = start;
+        this.ends[id] = end;
+        this.maxEnds[id] = end;
+        this.priorities[id] = HashCommon.murmurHash3(++this.insertions);
+        this.left[id] = -1;
+        this.right[id] = -1;
+        this.root = this.insert(this.root, id);
+        this.size++;
+        return id;
+    }
+
+    private int allocate() {
+        if (this.freeList != -1) {
+            int id = this.freeList;
+            this.freeList = this.right[id];
+            return id;
+        }
+
+        if (this.numIds == this.starts.length) {
+            int capacity = this.numIds * 2;
+            this.starts = Arrays.copyOf(this.starts, capacity);
+            this.ends = Arrays.copyOf(this.ends, capacity);
+            this.maxEnds = Arrays.copyOf(this.maxEnds, capacity);
+            this.priorities = Arrays.copyOf(this.priorities, capacity);
+            this.left = Arrays.copyOf(this.left, capacity);
+            this.right = Arrays.copyOf(this.right, capacity);
+        }
+        return this.numIds++;
+    }
+
+    private int insert(int node, int id) {
+        if (node == -1)
+            return id;
+
+        if (this.priorities[id] > this.priorities[node]) {
+            this.split(node, id);
+            this.left[id] = this.splitLeft;
+            this.right[id] = this.splitRight;
+            this.update(id);
+            return id;
+        }
+
+        if (this.isBefore(id, node)) {
+            this.left[node] = this.insert(this.left[node], id);
+        } else {
+            this.right[node] = this.insert(this.right[node], id);
+        }
+        this.update(node);
+        return node;
+    }
+
+    /**
+     * Splits the subtree into the nodes before {@code id} and the nodes after it,
+     * stored in {@link #splitLeft} and {@link #splitRight}.
+     */
+    private void split(int node, int id) {
+        if (node == -1) {
+            this.splitLeft = -1;
+            this.splitRight = -1;
+        } else if (this.isBefore(node, id)) {
+            this.split(this.right[node], id);
+            this.right[node] = this.splitLeft;
+            this.update(node);
+            this.splitLeft = node;
+        } else {
+            this.split(this.left[node], id);
+            this.left[node] = this.splitRight;
+            this.update(node);
+            this.splitRight = node;
+        }
+    }
+
+    private int merge(int a, int b) {
+        if (a == -1)
+            return b;
+        if (b == -1)
+            return a;
+
+        if (this.priorities[a] > this.priorities[b]) {
+            this.right[a] = this.merge(this.right[a], b);
+            this.update(a);
+            return a;
+        } else {
+            this.left[b] = this.merge(a, this.left[b]);
+            this.update(b);
+            return b;
+        }
+    }
+
+    private void update(int node) {
+        long maxEnd = this.ends[node];
+        if (this.left[node] != -1)
+            maxEnd = Math.max(maxEnd, this.maxEnds[this.left[node]]);
+        if (this.right[node] != -1)
+            maxEnd = Math.max(maxEnd, this.maxEnds[this.right[node]]);
+        this.maxEnds[node] = maxEnd;
+    }
+
+    private boolean isBefore(int a, int b) {
+        if (this.starts[a] != this.starts[b])
+            return this.starts[a] < this.starts[b];
+        if (this.ends[a] != this.ends[b])
+            return this.ends[a] < this.ends[b];
+        return a < b;
+    }
+
+    /**
+     * Removes the interval with the given id, which must currently be in the tree.
+     */
+    public void remove(int id) {
+        this.root = this.remove(this.root, id);
+        this.right[id] = this.freeList;
+        this.freeList = id;
+        this.size--;
+    }
+
+    private int remove(int node, int id) {
+        if (node == -1)
+            throw new IllegalArgumentException("Interval " + id + " is not in the tree");
+
+        if (node == id)
+            return this.merge(this.left[node], this.right[node]);
+
+        if (this.isBefore(id, node)) {
+            this.left[node] = this.remove(this.left[node], id);
+        } else {
+            this.right[node] = this.remove(this.right[node], id);
+        }
+        this.update(node);
+        return node;
+    }
+
+    /**
+     * Removes one interval from {@code start} to {@code end}, inclusive, if there is one.
+     *
+     * @return {@code true} if an interval was removed
+     */
+    public boolean remove(long start, long end) {
+        int node = this.root;
+        while (node != -1) {
+            if (this.starts[node] == start && this.ends[node] == end) {
+                this.remove(node);
+                return true;
+            }
+            boolean goLeft = start < this.starts[node] || start == this.starts[node] && end < this.ends[node];
+            node = goLeft ? this.left[node] : this.right[node];
+        }
+        return false;
+    }
+
+    /**
+     * Visits every interval containing the given point, in order of start.
+     *
+     * @return the number of intervals visited
+     */
+    public int forEachStabbing(long point, IntervalConsumer consumer) {
+        return this.forEachOverlapping(point, point, consumer);
+    }
+
+    public int countStabbing(long point) {
+        return this.forEachOverlapping(point, point, null);
+    }
+
+    /**
+     * Visits every interval sharing at least one value with the interval from {@code start} to {@code end},
+     * inclusive, in order of start.
+     *
+     * @return the number of intervals visited
+     */
+    public int forEachOverlapping(long start, long end, IntervalConsumer consumer) {
+        return this.forEachOverlapping(this.root, start, end, consumer);
+    }
+
+    public int countOverlapping(long start, long end) {
+        return this.forEachOverlapping(this.root, start, end, null);
+    }
+
+    private int forEachOverlapping(int node, long start, long end, IntervalConsumer consumer) {
+        if (node == -1 || this.maxEnds[node] < start)
+            return 0;
+
+        int count = this.forEachOverlapping(this.left[node], start, end, consumer);
+        // Everything to the right starts at or after this node, so it is past the query too
+        if (this.starts[node] > end)
+            return count;
+
+        if (this.ends[node] >= start) {
+            if (consumer != null)
+                consumer.accept(node, this.starts[node], this.ends[node]);
+            count++;
+        }
+        return count + this.forEachOverlapping(this.right[node], start, end, consumer);
+    }
+
+    /**
+     * @return {@code true} if any interval shares at least one value with the interval from {@code start} to
+     * {@code end}, inclusive
+     */
+    public boolean overlapsAny(long start, long end) {
+        int node = this.root;
+        while (node != -1 && this.maxEnds[node] >= start) {
+            if (this.starts[node] <= end && this.ends[node] >= start)
+                return true;
+            // The left subtree can only hold a match if it reaches the start, otherwise only the right subtree can
+            int leftNode = this.left[node];
+            if (leftNode != -1 && this.maxEnds[leftNode] >= start) {
+                node = leftNode;
+            } else if (this.starts[node] <= end) {
+                node = this.right[node];
+            } else {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    @FunctionalInterface
+    public interface IntervalConsumer {
+        void accept(int id, long start, long end);
+    }
+}
@@ -23,11 +23,20 @@
 
 package me.sizableshrimp.adventofcode2025.helper;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.IntStream;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 //see Python Itertools
 public class Itertools {
@@ -38,20 +47,10 @@ public class Itertools {
 
     @SafeVarargs
     public static <T> List<List<T>> product(int repeat, List<T>... lists) {
+        List<List<T>> pools = repeat(Arrays.asList(lists), repeat);
         List<List<T>> result = new ArrayList<>();
-        result.add(new ArrayList<>());
-        List<List<T>> pools = new ArrayList<>(Arrays.asList(lists));
-        pools = repeat(pools, repeat);
-        for (List<T> pool : pools) {
-            List<List<T>> newResult = new ArrayList<>();
-            for (List<T> x : result) {
-                for (T y : pool) {
-                    List<T> list = new ArrayList<>(x);
-                    list.add(y);
-                    newResult.add(list);
-                }
-            }
-            result = newResult;
+        for (int[] indices : productIndices(getSizes(pools))) {
+            result.add(yieldProductResult(pools, indices));
         }
 
         return result;
@@ -67,6 +66,57 @@ public class Itertools {
         return result;
     }
 
+    private static int[] getSizes(List<? extends List<?>> pools) {
+        int[] sizes = new int[pools.size()];
+        for (int i = 0; i < sizes.length; i++) {
+            sizes[i] = pools.get(i).size();
+        }
+        return sizes;
+    }
+
+    /**
+     * Lazy version of {@link #product(List[])} where each tuple is a view of the lists which is reused between
+     * iterations, so it must be copied if it needs to outlive the current iteration.
+     */
+    @SafeVarargs
+    public static <T> Iterable<List<T>> lazyProduct(List<T>... lists) {
+        // Copied by hand since passing the generic varargs array on to another method is reported as heap pollution
+        List<List<T>> pools = new ArrayList<>(lists.length);
+        for (List<T> list : lists) {
+            pools.add(list);
+        }
+        return () -> new ViewIterator<>(productIndices(getSizes(pools)).iterator(), pools, null);
+    }
+
+    /**
+     * Iterates over the cartesian product of the index ranges {@code [0, sizes[i])}, where the last index advances
+     * the fastest.
+     * Each tuple is written to the same {@code int[]}, which must be copied if it needs to outlive the current iteration.
+     */
+    public static Iterable<int[]> productIndices(int... sizes) {
+        return () -> Spliterators.iterator(new ProductSpliterator(sizes));
+    }
+
+    /**
+     * Streams {@link #productIndices(int...)}, which can be split evenly for parallel streams.
+     * Each split writes its tuples to its own {@code int[]}.
+     */
+    public static Stream<int[]> streamProductIndices(int... sizes) {
+        return StreamSupport.stream(new ProductSpliterator(sizes), false);
+    }
+
+    /**
+     * @return the number of tuples in the cartesian product of lists with the given sizes
+     * @throws ArithmeticException if there are more than {@link Long#MAX_VALUE} tuples
+     */
+    public static long countProduct(int... sizes) {
+        long count = 1;
+        for (int size : sizes) {
+            count = Math.multiplyExact(count, size);
+        }
+        return count;
+    }
+
     /**
      * Returns a List of combinations of the input collection, where each combination is of length r and sorted by
      * lexicographic order.
@@ -81,26 +131,113 @@ public class Itertools {
     public static <T> List<List<T>> combinations(Collection<T> collection, int r) {
         List<List<T>> result = new ArrayList<>();
         List<T> pool = new ArrayList<>(collection);
-        int n = pool.size();
-        int[] indices = IntStream.range(0, r).toArray();
-        result.add(yieldResult(pool, indices));
-        while (true) {
-            boolean broke = false;
-            int last = 0;
-            for (int i : IntStream.range(0, r).mapToObj(i -> r - i - 1).toList()) {
-                last = i;
-                if (indices[i] != i + n - r) {
-                    broke = true;
-                    break;
-                }
-            }
-            if (!broke)
-                return result;
-
-            indices[last]++;
-            IntStream.range(last + 1, r).forEach(j -> indices[j] = indices[j - 1] + 1);
+        for (int[] indices : combinationIndices(pool.size(), r)) {
             result.add(yieldResult(pool, indices));
         }
+
+        return result;
+    }
+
+    /**
+     * Lazy version of {@link #combinations} where each combination is a view of the collection which is reused between
+     * iterations, so it must be copied if it needs to outlive the current iteration.
+     */
+    public static <T> Iterable<List<T>> lazyCombinations(Collection<T> collection, int r) {
+        List<T> pool = new ArrayList<>(collection);
+        return () -> new ViewIterator<>(combinationIndices(pool.size(), r).iterator(), null, pool);
+    }
+
+    /**
+     * Iterates over the combinations of length {@code r} of the indices {@code [0, n)} in lexicographic order.
+     * Each combination is written to the same {@code int[]}, which must be copied if it needs to outlive the current
+     * iteration.
+     */
+    public static Iterable<int[]> combinationIndices(int n, int r) {
+        return () -> Spliterators.iterator(new CombinationSpliterator(n, r));
+    }
+
+    /**
+     * Streams {@link #combinationIndices}, which can be split evenly for parallel streams.
+     * Each split writes its combinations to its own {@code int[]}.
+     */
+    public static Stream<int[]> streamCombinationIndices(int n, int r) {
+        return StreamSupport.stream(new CombinationSpliterator(n, r), false);
+    }
+
+    /**
+     * @return the number of combinations of length {@code r} out of {@code n} elements, {@code n choose r}
+     * @throws ArithmeticException if there are more than {@link Long#MAX_VALUE} combinations
+     */
+    public static long countCombinations(int n, int r) {
+        if (r < 0 || r > n)
+            return 0;
+
+        r = Math.min(r, n - r);
+        long count = 1;
+        for (int i = 0; i < r; i++) {
+            // count * (n - i) is always divisible by i + 1 since count is n choose i, so dividing out their gcd first
+            // leaves a divisor of n - i and only throws if the next count itself overflows
+            long gcd = MathUtil.gcd(count, i + 1);
+            count = Math.multiplyExact(count / gcd, (n - i) / ((i + 1) / gcd));
+        }
+        return count;
+    }
+
+    /**
+     * Streams every unordered pair {@code (i, j)} with {@code 0 <= i < j < n} in lexicographic order, packed into a long
+     * to be read with {@link #pairFirst} and {@link #pairSecond}.
+     * This is the same as {@code streamCombinationIndices(n, 2)} without any buffer, and splits into halves with an
+     * equal number of pairs no matter how lopsided the rows of the triangle are.
+     */
+    public static LongStream streamPairIndices(int n) {
+        return StreamSupport.longStream(new PairSpliterator(n), false);
+    }
+
+    public static int pairFirst(long pair) {
+        return (int) (pair >>> 32);
+    }
+
+    public static int pairSecond(long pair) {
+        return (int) pair;
+    }
+
+    /**
+     * Computes the maximum of {@code function} over every unordered pair of indices in {@code [0, n)} in parallel.
+     * The function must be safe to call from multiple threads.
+     *
+     * @return the maximum, or {@link Long#MIN_VALUE} if there are fewer than 2 elements
+     */
+    public static long maxOfPairs(int n, PairToLongFunction function) {
+        return streamPairIndices(n).parallel()
+                .map(pair -> function.applyAsLong(pairFirst(pair), pairSecond(pair)))
+                .reduce(Long.MIN_VALUE, Math::max);
+    }
+
+    /**
+     * Computes the minimum of {@code function} over every unordered pair of indices in {@code [0, n)} in parallel.
+     * The function must be safe to call from multiple threads.
+     *
+     * @return the minimum, or {@link Long#MAX_VALUE} if there are fewer than 2 elements
+     */
+    public static long minOfPairs(int n, PairToLongFunction function) {
+        return streamPairIndices(n).parallel()
+                .map(pair -> function.applyAsLong(pairFirst(pair), pairSecond(pair)))
+                .reduce(Long.MAX_VALUE, Math::min);
+    }
+
+    /**
+     * Computes the sum of {@code function} over every unordered pair of indices in {@code [0, n)} in parallel.
+     * The function must be safe to call from multiple threads.
+     */
+    public static long sumOfPairs(int n, PairToLongFunction function) {
+        return streamPairIndices(n).parallel()
+                .map(pair -> function.applyAsLong(pairFirst(pair), pairSecond(pair)))
+                .sum();
+    }
+
+    @FunctionalInterface
+    public interface PairToLongFunction {
+        long applyAsLong(int i, int j);
     }
 
     private static <T> List<T> yieldResult(List<T> pool, int[] indices) {
@@ -111,4 +248,321 @@ public class Itertools {
 
         return result;
     }
+
+    private static <T> List<T> yieldProductResult(List<List<T>> pools, int[] indices) {
+        List<T> result = new ArrayList<>();
+        for (int i = 0; i < indices.length; i++) {
+            result.add(pools.get(i).get(indices[i]));
+        }
+
+        return result;
+    }
+
+    /**
+     * Walks a range of ranks of some ordered space of {@code int[]} tuples, unranking the first tuple of the range
+     * lazily so that splitting only costs a single unranking.
+     */
+    private abstract static class RankedSpliterator implements Spliterator<int[]> {
+        protected final int[] indices;
+        private long rank;
+        private final long end;
+        private boolean started;
+
+        RankedSpliterator(int length, long rank, long end) {
+            this.indices = new int[length];
+            this.rank = rank;
+            this.end = end;
+        }
+
+        /**
+         * Writes the tuple with the given rank into {@link #indices}.
+         */
+        protected abstract void unrank(long rank);
+
+        /**
+         * Advances {@link #indices} to the next tuple, which is known to exist.
+         */
+        protected abstract void advance();
+
+        protected abstract RankedSpliterator create(long rank, long end);
+
+        @Override
+        public boolean tryAdvance(Consumer<? super int[]> action) {
+            if (this.rank >= this.end)
+                return false;
+
+            if (this.started) {
+                this.advance();
+            } else {
+                this.unrank(this.rank);
+                this.started = true;
+            }
+            this.rank++;
+            action.accept(this.indices);
+            return true;
+        }
+
+        @Override
+        public Spliterator<int[]> trySplit() {
+            if (this.started || this.end - this.rank < 2)
+                return null;
+
+            long mid = this.rank + (this.end - this.rank) / 2;
+            RankedSpliterator prefix = this.create(this.rank, mid);
+            this.rank = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.end - this.rank;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+    }
+
+    private static class CombinationSpliterator extends RankedSpliterator {
+        private final int n;
+
+        CombinationSpliterator(int n, int r) {
+            this(n, r, 0, countCombinations(n, r));
+        }
+
+        private CombinationSpliterator(int n, int r, long rank, long end) {
+            super(r, rank, end);
+            this.n = n;
+        }
+
+        @Override
+        protected void unrank(long rank) {
+            int r = this.indices.length;
+            int value = 0;
+            for (int i = 0; i < r; i++) {
+                // Skip past every value whose block of combinations comes entirely before the rank
+                while (true) {
+                    long block = countCombinations(this.n - value - 1, r - i - 1);
+                    if (rank < block)
+                        break;
+                    rank -= block;
+                    value++;
+                }
+                this.indices[i] = value++;
+            }
+        }
+
+        @Override
+        protected void advance() {
+            int[] indices = this.indices;
+            int r = indices.length;
+            int i = r - 1;
+            while (indices[i] == i + this.n - r) {
+                i--;
+            }
+            indices[i]++;
+            for (int j = i + 1; j < r; j++) {
+                indices[j] = indices[j - 1] + 1;
+            }
+        }
+
+        @Override
+        protected RankedSpliterator create(long rank, long end) {
+            return new CombinationSpliterator(this.n, this.indices.length, rank, end);
+        }
+    }
+
+    private static class ProductSpliterator extends RankedSpliterator {
+        private final int[] sizes;
+
+        ProductSpliterator(int[] sizes) {
+            this(sizes.clone(), 0, countProduct(sizes));
+        }
+
+        private ProductSpliterator(int[] sizes, long rank, long end) {
+            super(sizes.length, rank, end);
+            this.sizes = sizes;
+        }
+
+        @Override
+        protected void unrank(long rank) {
+            for (int i = this.sizes.length - 1; i >= 0; i--) {
+                this.indices[i] = (int) (rank % this.sizes[i]);
+                rank /= this.sizes[i];
+            }
+        }
+
+        @Override
+        protected void advance() {
+            int i = this.sizes.length - 1;
+            while (++this.indices[i] == this.sizes[i]) {
+                this.indices[i--] = 0;
+            }
+        }
+
+        @Override
+        protected RankedSpliterator create(long rank, long end) {
+            return new ProductSpliterator(this.sizes, rank, end);
+        }
+    }
+
+    /**
+     * Walks a range of ranks of the pairs {@code (i, j)} with {@code i < j}, where the pairs starting with {@code i}
+     * take up ranks {@code [rowStart(i), rowStart(i + 1))}.
+     */
+    private static class PairSpliterator implements Spliterator.OfLong {
+        private final int n;
+        private long rank;
+        private final long end;
+        private int i = -1;
+        private int j;
+
+        PairSpliterator(int n) {
+            this(n, 0, countCombinations(n, 2));
+        }
+
+        private PairSpliterator(int n, long rank, long end) {
+            this.n = n;
+            this.rank = rank;
+            this.end = end;
+        }
+
+        private long rowStart(long i) {
+            return i * (2L * this.n - i - 1) / 2;
+        }
+
+        /**
+         * Solves {@code rowStart(i) <= rank} for the largest {@code i} with the quadratic formula,
+         * then corrects any floating point error.
+         */
+        private void unrank() {
+            double b = 2.0 * this.n - 1;
+            int i = (int) ((b - Math.sqrt(b * b - 8.0 * this.rank)) / 2);
+            i = Math.clamp(i, 0, this.n - 2);
+            while (i > 0 && this.rowStart(i) > this.rank) {
+                i--;
+            }
+            while (i < this.n - 2 && this.rowStart(i + 1) <= this.rank) {
+                i++;
+            }
+            this.i = i;
+            this.j = (int) (this.rank - this.rowStart(i)) + i + 1;
+        }
+
+        /**
+         * Moves to the pair at the current rank, which is known to exist.
+         */
+        private void advance() {
+            if (this.i == -1) {
+                this.unrank();
+            } else if (++this.j == this.n) {
+                this.i++;
+                this.j = this.i + 1;
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (this.rank >= this.end)
+                return false;
+
+            this.advance();
+            this.rank++;
+            action.accept((long) this.i << 32 | this.j);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            if (this.rank >= this.end)
+                return;
+
+            this.advance();
+            // Walk whole rows at a time instead of checking the rank for every pair
+            long remaining = this.end - this.rank;
+            for (int i = this.i, j = this.j; remaining > 0; i++, j = i + 1) {
+                int rowEnd = (int) Math.min(this.n, j + remaining);
+                for (int k = j; k < rowEnd; k++) {
+                    action.accept((long) i << 32 | k);
+                }
+                remaining -= rowEnd - j;
+            }
+            this.rank = this.end;
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            if (this.i != -1 || this.end - this.rank < 2)
+                return null;
+
+            long mid = this.rank + (this.end - this.rank) / 2;
+            PairSpliterator prefix = new PairSpliterator(this.n, this.rank, mid);
+            this.rank = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.end - this.rank;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE | DISTINCT;
+        }
+    }
+
+    /**
+     * Maps index tuples to a reused list view over either one pool per position or a single shared pool.
+     */
+    private static class ViewIterator<T> implements Iterator<List<T>> {
+        private final Iterator<int[]> indices;
+        private final List<List<T>> pools;
+        private final List<T> pool;
+        private IndexView<T> view;
+
+        ViewIterator(Iterator<int[]> indices, List<List<T>> pools, List<T> pool) {
+            this.indices = indices;
+            this.pools = pools;
+            this.pool = pool;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.indices.hasNext();
+        }
+
+        @Override
+        public List<T> next() {
+            int[] next = this.indices.next();
+            if (this.view == null || this.view.indices != next)
+                this.view = new IndexView<>(next, this.pools, this.pool);
+            return this.view;
+        }
+    }
+
+    private static class IndexView<T> extends AbstractList<T> implements RandomAccess {
+        private final int[] indices;
+        private final List<List<T>> pools;
+        private final List<T> pool;
+
+        IndexView(int[] indices, List<List<T>> pools, List<T> pool) {
+            this.indices = indices;
+            this.pools = pools;
+            this.pool = pool;
+        }
+
+        @Override
+        public T get(int index) {
+            return this.pool == null
+                    ? this.pools.get(index).get(this.indices[index])
+                    : this.pool.get(this.indices[index]);
+        }
+
+        @Override
+        public int size() {
+            return this.indices.length;
+        }
+    }
 }
@@ -0,0 +1,639 @@
+/*
+ * AdventOfCode2025
+ * Copyright (C) 2025 SizableShrimp
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.sizableshrimp.adventofcode2025.helper;
+
+import me.sizableshrimp.adventofcode2025.templates.Coordinate;
+import me.sizableshrimp.adventofcode2025.templates.LongCoordinate;
+import me.sizableshrimp.adventofcode2025.templates.ZCoordinate;
+import me.sizableshrimp.adventofcode2025.templates.ZLongCoordinate;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntConsumer;
+
+/**
+ * An immutable static k-d tree over 2D or 3D points for nearest neighbor, k-nearest, radius and box queries.
+ * <p>
+ * The tree is stored as a permutation of the points where the median of each range is the splitting node of that
+ * range, cycling through the axes, with the coordinates copied into tree order so that queries walk memory mostly
+ * sequentially. Ranges of at most {@value #LEAF_SIZE} points are not split any further and are scanned instead.
+ * <p>
+ * Points are identified by their index in the original list, and every query breaks distance ties by the lower index.
+ * Queries never allocate and only read the tree, so one tree can be shared between threads.
+ * 2D trees treat their points as lying on the plane {@code z = 0}, which the 2D query methods also assume.
+ * Distances are computed with {@code long} arithmetic and may overflow for coordinates beyond about {@code 2^30}
+ * when using {@link Metric#EUCLIDEAN_SQUARED}.
+ */
+public class KdTree {
+    private static final int LEAF_SIZE = 8;
+    private static final int PARALLEL_THRESHOLD = 1 << 15;
+    /**
+     * The label of an empty range in {@link #getRangeLabels}, which never matches a real label.
+     */
+    private static final int NO_LABEL = Integer.MIN_VALUE;
+
+    private final int dimensions;
+    private final int[] nodes;
+    /**
+     * The highest point index within the range split by each node, used to skip ranges with no candidates.
+     */
+    private final int[] maxIndex;
+    private final long[] xs;
+    private final long[] ys;
+    private final long[] zs;
+
+    private KdTree(long[] xs, long[] ys, long[] zs, int dimensions) {
+        int n = xs.length;
+        if (ys.length != n || zs.length != n)
+            throw new IllegalArgumentException("Axes must be the same length");
+
+        this.dimensions = dimensions;
+        this.nodes = new int[n];
+        for (int i = 0; i < n; i++) {
+            this.nodes[i] = i;
+        }
+        this.maxIndex = new int[n];
+
+        long[][] axes = {xs, ys, zs};
+        BuildTask task = new BuildTask(axes, 0, n, 0);
+        if (n >= PARALLEL_THRESHOLD) {
+            ForkJoinPool.commonPool().invoke(task);
+        } else {
+            task.compute();
+        }
+
+        this.xs = new long[n];
+        this.ys = new long[n];
+        this.zs = new long[n];
+        for (int i = 0; i < n; i++) {
+            int point = this.nodes[i];
+            this.xs[i] = xs[point];
+            this.ys[i] = ys[point];
+            this.zs[i] = zs[point];
+        }
+    }
+
+    /**
+     * Builds a 2D tree from the given coordinate arrays, which are not modified or kept.
+     * Large trees are built in parallel.
+     */
+    public static KdTree of(long[] xs, long[] ys) {
+        return new KdTree(xs, ys, new long[xs.length], 2);
+    }
+
+    /**
+     * Builds a 3D tree from the given coordinate arrays, which are not modified or kept.
+     * Large trees are built in parallel.
+     */
+    public static KdTree of(long[] xs, long[] ys, long[] zs) {
+        return new KdTree(xs, ys, zs, 3);
+    }
+
+    public static KdTree of2D(List<Coordinate> coords) {
+        int n = coords.size();
+        long[] xs = new long[n];
+        long[] ys = new long[n];
+        for (int i = 0; i < n; i++) {
+            Coordinate coord = coords.get(i);
+            xs[i] = coord.x();
+            ys[i] = coord.y();
+        }
+        return of(xs, ys);
+    }
+
+    public static KdTree of3D(List<ZCoordinate> coords) {
+        int n = coords.size();
+        long[] xs = new long[n];
+        long[] ys = new long[n];
+        long[] zs = new long[n];
+        for (int i = 0; i < n; i++) {
+            ZCoordinate coord = coords.get(i);
+            xs[i] = coord.x();
+            ys[i] = coord.y();
+            zs[i] = coord.z();
+        }
+        return of(xs, ys, zs);
+    }
+
+    public static KdTree ofLong2D(List<LongCoordinate> coords) {
+        int n = coords.size();
+        long[] xs = new long[n];
+        long[] ys = new long[n];
+        for (int i = 0; i < n; i++) {
+            LongCoordinate coord = coords.get(i);
+            xs[i] = coord.x();
+            ys[i] = coord.y();
+        }
+        return of(xs, ys);
+    }
+
+    public static KdTree ofLong3D(List<ZLongCoordinate> coords) {
+        int n = coords.size();
+        long[] xs = new long[n];
+        long[] ys = new long[n];
+        long[] zs = new long[n];
+        for (int i = 0; i < n; i++) {
+            ZLongCoordinate coord = coords.get(i);
+            xs[i] = coord.x();
+            ys[i] = coord.y();
+            zs[i] = coord.z();
+        }
+        return of(xs, ys, zs);
+    }
+
+    public int size() {
+        return this.nodes.length;
+    }
+
+    public int getDimensions() {
+        return this.dimensions;
+    }
+
+    // region Nearest
+
+    public int nearest(Metric metric, long x, long y) {
+        return this.nearest(metric, x, y, 0);
+    }
+
+    /**
+     * Convenience for a single query; use {@link #kNearest} with reused one-element buffers to avoid allocating.
+     *
+     * @return the index of the point closest to the query, or -1 if the tree is empty
+     */
+    public int nearest(Metric metric, long x, long y, long z) {
+        int[] resultIdx = {-1};
+        long[] resultDist = new long[1];
+        this.kNearest(metric, x, y, z, -1, resultIdx, resultDist);
+        return resultIdx[0];
+    }
+
+    public int kNearest(Metric metric, long x, long y, int[] resultIdx, long[] resultDist) {
+        return this.kNearest(metric, x, y, 0, -1, resultIdx, resultDist);
+    }
+
+    public int kNearest(Metric metric, long x, long y, long z, int[] resultIdx, long[] resultDist) {
+        return this.kNearest(metric, x, y, z, -1, resultIdx, resultDist);
+    }
+
+    /**
+     * Finds the {@code resultIdx.length} points closest to the query with an index greater than {@code minIndex},
+     * ordered by distance and then index.
+     * Passing a {@code minIndex} of -1 considers every point, while passing the index of a point of the tree
+     * is useful for visiting each pair of points only once.
+     *
+     * @param resultIdx the buffer to fill with the indices of the closest points
+     * @param resultDist the buffer to fill with the distances of the closest points, at least as long as {@code resultIdx}
+     * @return how many points were found, which is only less than {@code resultIdx.length} if there are not enough points
+     */
+    public int kNearest(Metric metric, long x, long y, long z, int minIndex, int[] resultIdx, long[] resultDist) {
+        if (resultIdx.length == 0)
+            return 0;
+
+        int size = this.searchNearest(0, this.nodes.length, 0, 0, 0, 0, 0,
+                metric, x, y, z, minIndex, -1, null, null, resultIdx, resultDist, 0);
+        sortResults(resultIdx, resultDist, size);
+        return size;
+    }
+
+    /**
+     * Finds the point closest to the query whose label is not {@code label}, breaking ties by the lower index.
+     * Whole ranges sharing the query's label are skipped using {@code rangeLabels} from {@link #getRangeLabels}.
+     *
+     * @param labels the label of each point by its index, such as the component it belongs to
+     * @return the index of the closest point, or -1 if every point has the same label
+     */
+    int nearestOutside(Metric metric, long x, long y, long z, int label, int[] labels, int[] rangeLabels,
+            long[] resultDist) {
+        int[] resultIdx = {-1};
+        this.searchNearest(0, this.nodes.length, 0, 0, 0, 0, 0,
+                metric, x, y, z, -1, label, labels, rangeLabels, resultIdx, resultDist, 0);
+        return resultIdx[0];
+    }
+
+    /**
+     * @return the label shared by every point in the range split by each node, or -1 if they differ
+     */
+    int[] getRangeLabels(int[] labels) {
+        int[] rangeLabels = new int[this.nodes.length];
+        this.computeRangeLabels(0, this.nodes.length, labels, rangeLabels);
+        return rangeLabels;
+    }
+
+    private int computeRangeLabels(int from, int to, int[] labels, int[] rangeLabels) {
+        if (to - from <= LEAF_SIZE) {
+            int result = NO_LABEL;
+            for (int i = from; i < to; i++) {
+                result = mergeLabels(result, labels[this.nodes[i]]);
+            }
+            return result;
+        }
+
+        int mid = (from + to) >>> 1;
+        int result = mergeLabels(labels[this.nodes[mid]], this.computeRangeLabels(from, mid, labels, rangeLabels));
+        result = mergeLabels(result, this.computeRangeLabels(mid + 1, to, labels, rangeLabels));
+        rangeLabels[mid] = result;
+        return result;
+    }
+
+    private static int mergeLabels(int a, int b) {
+        if (a == NO_LABEL)
+            return b;
+        if (b == NO_LABEL)
+            return a;
+        return a == b ? a : -1;
+    }
+
+    /**
+     * Searches {@code nodes[from..to)}, where {@code ox}, {@code oy} and {@code oz} are the offsets from the query to the
+     * bounding box of the range along each axis and {@code boxDist} is the resulting distance to that box.
+     * The results are kept as a max-heap of the given size, which is returned after being updated.
+     * If {@code labels} is not null, points labeled {@code label} are skipped.
+     */
+    private int searchNearest(int from, int to, int axis, long boxDist, long ox, long oy, long oz, Metric metric,
+            long x, long y, long z, int minIndex, int label, int[] labels, int[] rangeLabels,
+            int[] resultIdx, long[] resultDist, int size) {
+        if (to - from <= LEAF_SIZE) {
+            for (int i = from; i < to; i++) {
+                size = this.offer(i, metric, x, y, z, minIndex, label, labels, resultIdx, resultDist, size);
+            }
+            return size;
+        }
+
+        int mid = (from + to) >>> 1;
+        if (this.maxIndex[mid] <= minIndex || rangeLabels != null && rangeLabels[mid] == label)
+            return size;
+        size = this.offer(mid, metric, x, y, z, minIndex, label, labels, resultIdx, resultDist, size);
+
+        long diff = this.getAxis(mid, axis) - (axis == 0 ? x : axis == 1 ? y : z);
+        long oldOffset = axis == 0 ? ox : axis == 1 ? oy : oz;
+        long farDist = boxDist - metric.axisDistance(oldOffset) + metric.axisDistance(diff);
+        int nextAxis = this.nextAxis(axis);
+
+        int nearFrom = diff > 0 ? from : mid + 1;
+        int nearTo = diff > 0 ? mid : to;
+        int farFrom = diff > 0 ? mid + 1 : from;
+        int farTo = diff > 0 ? to : mid;
+
+        // Search the side of the split containing the query first, then the other side only if it could be closer
+        size = this.searchNearest(nearFrom, nearTo, nextAxis, boxDist, ox, oy, oz,
+                metric, x, y, z, minIndex, label, labels, rangeLabels, resultIdx, resultDist, size);
+        if (size < resultIdx.length || farDist <= resultDist[0]) {
+            size = this.searchNearest(farFrom, farTo, nextAxis, farDist,
+                    axis == 0 ? diff : ox, axis == 1 ? diff : oy, axis == 2 ? diff : oz,
+                    metric, x, y, z, minIndex, label, labels, rangeLabels, resultIdx, resultDist, size);
+        }
+
+        return size;
+    }
+
+    private int offer(int i, Metric metric, long x, long y, long z, int minIndex, int label, int[] labels,
+            int[] resultIdx, long[] resultDist, int size) {
+        int point = this.nodes[i];
+        if (point <= minIndex || labels != null && labels[point] == label)
+            return size;
+        return offerResult(point, metric.distance(this.xs[i] - x, this.ys[i] - y, this.zs[i] - z),
+                resultIdx, resultDist, size);
+    }
+
+    /**
+     * Offers a point to the closest points found so far, which are kept as a max-heap by distance and then index
+     * holding {@code size} of the {@code resultIdx.length} points wanted.
+     *
+     * @return the new size of the heap
+     */
+    static int offerResult(int point, long dist, int[] resultIdx, long[] resultDist, int size) {
+        if (size < resultIdx.length) {
+            int heapIdx = size++;
+            resultIdx[heapIdx] = point;
+            resultDist[heapIdx] = dist;
+            // Sift up
+            while (heapIdx > 0) {
+                int parent = (heapIdx - 1) >>> 1;
+                if (!isAfter(resultIdx, resultDist, heapIdx, parent))
+                    break;
+                swap(resultIdx, resultDist, heapIdx, parent);
+                heapIdx = parent;
+            }
+        } else if (dist < resultDist[0] || dist == resultDist[0] && point < resultIdx[0]) {
+            resultIdx[0] = point;
+            resultDist[0] = dist;
+            siftDown(resultIdx, resultDist, 0, size);
+        }
+
+        return size;
+    }
+
+    /**
+     * Turns a heap from {@link #offerResult} into a list ordered by distance and then index.
+     */
+    static void sortResults(int[] resultIdx, long[] resultDist, int size) {
+        for (int end = size - 1; end > 0; end--) {
+            swap(resultIdx, resultDist, 0, end);
+            siftDown(resultIdx, resultDist, 0, end);
+        }
+    }
+
+    private static void siftDown(int[] resultIdx, long[] resultDist, int i, int size) {
+        while (true) {
+            int child = i * 2 + 1;
+            if (child >= size)
+                return;
+            if (child + 1 < size && isAfter(resultIdx, resultDist, child + 1, child))
+                child++;
+            if (!isAfter(resultIdx, resultDist, child, i))
+                return;
+            swap(resultIdx, resultDist, i, child);
+            i = child;
+        }
+    }
+
+    private static boolean isAfter(int[] resultIdx, long[] resultDist, int a, int b) {
+        long aDist = resultDist[a];
+        long bDist = resultDist[b];
+        return aDist > bDist || aDist == bDist && resultIdx[a] > resultIdx[b];
+    }
+
+    private static void swap(int[] resultIdx, long[] resultDist, int a, int b) {
+        int tempIdx = resultIdx[a];
+        resultIdx[a] = resultIdx[b];
+        resultIdx[b] = tempIdx;
+        long tempDist = resultDist[a];
+        resultDist[a] = resultDist[b];
+        resultDist[b] = tempDist;
+    }
+
+    // endregion
+
+    // region Radius
+
+    public int forEachInRadius(Metric metric, long x, long y, long radius, IntConsumer consumer) {
+        return this.forEachInRadius(metric, x, y, 0, radius, consumer);
+    }
+
+    /**
+     * Visits every point within {@code radius} of the query, inclusive, in no particular order.
+     *
+     * @return the number of points visited
+     */
+    public int forEachInRadius(Metric metric, long x, long y, long z, long radius, IntConsumer consumer) {
+        return this.searchRadius(0, this.nodes.length, 0, 0, 0, 0, 0, metric, x, y, z, radius, consumer);
+    }
+
+    public int countInRadius(Metric metric, long x, long y, long radius) {
+        return this.countInRadius(metric, x, y, 0, radius);
+    }
+
+    public int countInRadius(Metric metric, long x, long y, long z, long radius) {
+        return this.searchRadius(0, this.nodes.length, 0, 0, 0, 0, 0, metric, x, y, z, radius, null);
+    }
+
+    private int searchRadius(int from, int to, int axis, long boxDist, long ox, long oy, long oz, Metric metric,
+            long x, long y, long z, long radius, IntConsumer consumer) {
+        if (to - from <= LEAF_SIZE) {
+            int count = 0;
+            for (int i = from; i < to; i++) {
+                count += this.visitIfWithin(i, metric, x, y, z, radius, consumer);
+            }
+            return count;
+        }
+
+        int mid = (from + to) >>> 1;
+        int count = this.visitIfWithin(mid, metric, x, y, z, radius, consumer);
+
+        long diff = this.getAxis(mid, axis) - (axis == 0 ? x : axis == 1 ? y : z);
+        long oldOffset = axis == 0 ? ox : axis == 1 ? oy : oz;
+        long farDist = boxDist - metric.axisDistance(oldOffset) + metric.axisDistance(diff);
+        int nextAxis = this.nextAxis(axis);
+        int nearFrom = diff > 0 ? from : mid + 1;
+        int nearTo = diff > 0 ? mid : to;
+        int farFrom = diff > 0 ? mid + 1 : from;
+        int farTo = diff > 0 ? to : mid;
+
+        count += this.searchRadius(nearFrom, nearTo, nextAxis, boxDist, ox, oy, oz, metric, x, y, z, radius, consumer);
+        if (farDist <= radius) {
+            count += this.searchRadius(farFrom, farTo, nextAxis, farDist,
+                    axis == 0 ? diff : ox, axis == 1 ? diff : oy, axis == 2 ? diff : oz,
+                    metric, x, y, z, radius, consumer);
+        }
+
+        return count;
+    }
+
+    private int visitIfWithin(int i, Metric metric, long x, long y, long z, long radius, IntConsumer consumer) {
+        if (metric.distance(this.xs[i] - x, this.ys[i] - y, this.zs[i] - z) > radius)
+            return 0;
+        if (consumer != null)
+            consumer.accept(this.nodes[i]);
+        return 1;
+    }
+
+    // endregion
+
+    // region Box
+
+    public int forEachInBox(long minX, long minY, long maxX, long maxY, IntConsumer consumer) {
+        return this.forEachInBox(minX, minY, 0, maxX, maxY, 0, consumer);
+    }
+
+    /**
+     * Visits every point within the given axis-aligned box, inclusive, in no particular order.
+     *
+     * @return the number of points visited
+     */
+    public int forEachInBox(long minX, long minY, long minZ, long maxX, long maxY, long maxZ, IntConsumer consumer) {
+        return this.searchBox(0, this.nodes.length, 0, minX, minY, minZ, maxX, maxY, maxZ, consumer);
+    }
+
+    public int countInBox(long minX, long minY, long maxX, long maxY) {
+        return this.countInBox(minX, minY, 0, maxX, maxY, 0);
+    }
+
+    public int countInBox(long minX, long minY, long minZ, long maxX, long maxY, long maxZ) {
+        return this.searchBox(0, this.nodes.length, 0, minX, minY, minZ, maxX, maxY, maxZ, null);
+    }
+
+    private int searchBox(int from, int to, int axis, long minX, long minY, long minZ, long maxX, long maxY, long maxZ,
+            IntConsumer consumer) {
+        if (to - from <= LEAF_SIZE) {
+            int count = 0;
+            for (int i = from; i < to; i++) {
+                count += this.visitIfInside(i, minX, minY, minZ, maxX, maxY, maxZ, consumer);
+            }
+            return count;
+        }
+
+        int mid = (from + to) >>> 1;
+        int count = this.visitIfInside(mid, minX, minY, minZ, maxX, maxY, maxZ, consumer);
+
+        long split = this.getAxis(mid, axis);
+        int nextAxis = this.nextAxis(axis);
+        // Points equal to the split value may be on either side
+        if ((axis == 0 ? minX : axis == 1 ? minY : minZ) <= split)
+            count += this.searchBox(from, mid, nextAxis, minX, minY, minZ, maxX, maxY, maxZ, consumer);
+        if ((axis == 0 ? maxX : axis == 1 ? maxY : maxZ) >= split)
+            count += this.searchBox(mid + 1, to, nextAxis, minX, minY, minZ, maxX, maxY, maxZ, consumer);
+
+        return count;
+    }
+
+    private int visitIfInside(int i, long minX, long minY, long minZ, long maxX, long maxY, long maxZ,
+            IntConsumer consumer) {
+        long x = this.xs[i];
+        long y = this.ys[i];
+        long z = this.zs[i];
+        if (x < minX || x > maxX || y < minY || y > maxY || z < minZ || z > maxZ)
+            return 0;
+        if (consumer != null)
+            consumer.accept(this.nodes[i]);
+        return 1;
+    }
+
+    // endregion
+
+    private long getAxis(int i, int axis) {
+        return switch (axis) {
+            case 0 -> this.xs[i];
+            case 1 -> this.ys[i];
+            default -> this.zs[i];
+        };
+    }
+
+    private int nextAxis(int axis) {
+        return axis + 1 == this.dimensions ? 0 : axis + 1;
+    }
+
+    public enum Metric {
+        MANHATTAN {
+            @Override
+            public long axisDistance(long diff) {
+                return Math.abs(diff);
+            }
+
+            @Override
+            public long distance(long dx, long dy, long dz) {
+                return Math.abs(dx) + Math.abs(dy) + Math.abs(dz);
+            }
+        },
+        EUCLIDEAN_SQUARED {
+            @Override
+            public long axisDistance(long diff) {
+                return diff * diff;
+            }
+
+            @Override
+            public long distance(long dx, long dy, long dz) {
+                return dx * dx + dy * dy + dz * dz;
+            }
+        };
+
+        /**
+         * @return the contribution of a difference along a single axis to the distance
+         */
+        public abstract long axisDistance(long diff);
+
+        public abstract long distance(long dx, long dy, long dz);
+    }
+
+    /**
+     * Partitions one range of the tree around its median and then recurses into both halves, forking while the ranges
+     * are large enough to be worth it.
+     *
+     * @return the highest point index within the range
+     */
+    private class BuildTask extends RecursiveTask<Integer> {
+        private final long[][] axes;
+        private final int from;
+        private final int to;
+        private final int axis;
+
+        BuildTask(long[][] axes, int from, int to, int axis) {
+            this.axes = axes;
+            this.from = from;
+            this.to = to;
+            this.axis = axis;
+        }
+
+        @Override
+        protected Integer compute() {
+            return this.build(this.from, this.to, this.axis);
+        }
+
+        private int build(int from, int to, int axis) {
+            if (to - from <= LEAF_SIZE) {
+                int max = -1;
+                for (int i = from; i < to; i++) {
+                    max = Math.max(max, KdTree.this.nodes[i]);
+                }
+                return max;
+            }
+
+            int mid = (from + to) >>> 1;
+            this.select(this.axes[axis], from, to - 1, mid);
+            int nextAxis = KdTree.this.nextAxis(axis);
+
+            int max;
+            if (to - from >= PARALLEL_THRESHOLD) {
+                BuildTask left = new BuildTask(this.axes, from, mid, nextAxis);
+                left.fork();
+                int rightMax = this.build(mid + 1, to, nextAxis);
+                max = Math.max(left.join(), rightMax);
+            } else {
+                max = Math.max(this.build(from, mid, nextAxis), this.build(mid + 1, to, nextAxis));
+            }
+
+            max = Math.max(max, KdTree.this.nodes[mid]);
+            KdTree.this.maxIndex[mid] = max;
+            return max;
+        }
+
+        /**
+         * Quickselect, partially sorting {@code nodes[lo..hi]} so that the k-th element by {@code values} is in place.
+         */
+        private void select(long[] values, int lo, int hi, int k) {
+            int[] nodes = KdTree.this.nodes;
+            while (lo < hi) {
+                long pivot = values[nodes[(lo + hi) >>> 1]];
+                int left = lo;
+                int right = hi;
+                while (left <= right) {
+                    while (values[nodes[left]] < pivot) left++;
+                    while (values[nodes[right]] > pivot) right--;
+                    if (left <= right) {
+                        int temp = nodes[left];
+                        nodes[left++] = nodes[right];
+                        nodes[right--] = temp;
+                    }
+                }
+                if (k <= right) {
+                    hi = right;
+                } else if (k >= left) {
+                    lo = left;
+                } else {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * AdventOfCode2025
+ * Copyright (C) 2025 SizableShrimp
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.sizableshrimp.adventofcode2025.helper;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * An {@link IntGraph} whose nodes were interned from labels, like the string node names on Day 11.
+ * Labels are only hashed while building and when translating between labels and ids,
+ * so all traversal happens on the int form returned by {@link #getGraph()}.
+ *
+ * @param <T> the type of node label
+ */
+public class LabeledGraph<T> {
+    private final IntGraph graph;
+    private final List<T> labels;
+    private final Object2IntMap<T> ids;
+
+    private LabeledGraph(IntGraph graph, List<T> labels, Object2IntMap<T> ids) {
+        this.graph = graph;
+        this.labels = labels;
+        this.ids = ids;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    public IntGraph getGraph() {
+        return this.graph;
+    }
+
+    public int size() {
+        return this.labels.size();
+    }
+
+    public boolean contains(T label) {
+        return this.ids.containsKey(label);
+    }
+
+    /**
+     * @throws IllegalArgumentException if no node has the given label
+     */
+    public int getId(T label) {
+        int id = this.ids.getInt(label);
+        if (id == -1)
+            throw new IllegalArgumentException("Unknown label: " + label);
+        return id;
+    }
+
+    public T getLabel(int id) {
+        return this.labels.get(id);
+    }
+
+    public static class Builder<T> {
+        private final Object2IntOpenHashMap<T> ids = new Object2IntOpenHashMap<>();
+        private final List<T> labels = new ArrayList<>();
+        private final IntArrayList from = new IntArrayList();
+        private final IntArrayList to = new IntArrayList();
+
+        private Builder() {
+            this.ids.defaultReturnValue(-1);
+        }
+
+        /**
+         * Resolves the id of a label, assigning the next free id if it has not been seen before.
+         */
+        public int intern(T label) {
+            int id = this.ids.getInt(label);
+            if (id == -1) {
+                id = this.labels.size();
+                this.ids.put(label, id);
+                this.labels.add(label);
+            }
+            return id;
+        }
+
+        public Builder<T> addEdge(T from, T to) {
+            this.from.add(this.intern(from));
+            this.to.add(this.intern(to));
+            return this;
+        }
+
+        public Builder<T> addEdges(T from, Collection<? extends T> to) {
+            int fromId = this.intern(from);
+            for (T label : to) {
+                this.from.add(fromId);
+                this.to.add(this.intern(label));
+            }
+            return this;
+        }
+
+        public LabeledGraph<T> build() {
+            IntGraph graph = IntGraph.fromEdges(this.labels.size(), this.from, this.to);
+            Object2IntOpenHashMap<T> ids = new Object2IntOpenHashMap<>(this.ids);
+            ids.defaultReturnValue(-1);
+            return new LabeledGraph<>(graph, List.copyOf(this.labels), ids);
+        }
+    }
+}
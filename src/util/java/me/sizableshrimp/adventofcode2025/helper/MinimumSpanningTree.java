@@ -0,0 +1,402 @@
+/*
+ * AdventOfCode2025
+ * Copyright (C) 2025 SizableShrimp
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.sizableshrimp.adventofcode2025.helper;
+
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import me.sizableshrimp.adventofcode2025.templates.Coordinate;
+import me.sizableshrimp.adventofcode2025.templates.ZCoordinate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * A minimum spanning tree (or forest, if the graph is disconnected) over {@code n} nodes, like the one built
+ * implicitly on Day 8 of Advent of Code 2025.
+ * <p>
+ * The edges are kept in the order Kruskal's algorithm would add them; that is, by nondecreasing weight,
+ * then by lower node and then by higher node.
+ * Every factory breaks ties with this same order, so they all produce the same tree for the same weights.
+ */
+public class MinimumSpanningTree {
+    private final int size;
+    private final int[] from;
+    private final int[] to;
+    private final long[] weights;
+
+    private MinimumSpanningTree(int size, int[] from, int[] to, long[] weights) {
+        this.size = size;
+        this.from = from;
+        this.to = to;
+        this.weights = weights;
+    }
+
+    /**
+     * Builds the Euclidean minimum spanning tree of the given 3D points with Kruskal's algorithm,
+     * weighted by squared distance.
+     * <p>
+     * Only the closest candidate pairs are ever generated using {@link NearestPairs}, and generation stops
+     * as soon as the tree is complete.
+     */
+    public static MinimumSpanningTree euclidean(List<ZCoordinate> coords) {
+        return kruskal(coords.size(), NearestPairs.of(coords));
+    }
+
+    /**
+     * Same as {@link #euclidean} for 2D points.
+     */
+    public static MinimumSpanningTree euclidean2D(List<Coordinate> coords) {
+        return kruskal(coords.size(), NearestPairs.of2D(coords));
+    }
+
+    private static MinimumSpanningTree kruskal(int size, NearestPairs pairs) {
+        int numEdges = Math.max(size - 1, 0);
+        int[] from = new int[numEdges];
+        int[] to = new int[numEdges];
+        long[] weights = new long[numEdges];
+        DisjointSet dset = new DisjointSet(size);
+
+        int edge = 0;
+        while (edge < numEdges && pairs.next()) {
+            if (!dset.union(pairs.i(), pairs.j()))
+                continue;
+            from[edge] = pairs.i();
+            to[edge] = pairs.j();
+            weights[edge] = pairs.distance();
+            edge++;
+        }
+
+        return new MinimumSpanningTree(size, from, to, weights);
+    }
+
+    /**
+     * Builds the minimum spanning tree of the complete graph on {@code size} nodes with Prim's algorithm in
+     * {@code O(n^2)} time and {@code O(n)} space, without ever storing the edges.
+     * A negative weight marks a missing edge, in which case this may return a forest.
+     */
+    public static MinimumSpanningTree prim(int size, EdgeWeight weight) {
+        long[] best = new long[size];
+        int[] bestFrom = new int[size];
+        boolean[] inTree = new boolean[size];
+        Arrays.fill(best, Long.MAX_VALUE);
+        Arrays.fill(bestFrom, -1);
+
+        EdgeList edges = new EdgeList(size);
+        for (int step = 0; step < size; step++) {
+            // Pick the cheapest node to attach, or start a new tree from the lowest remaining node
+            int next = -1;
+            for (int node = 0; node < size; node++) {
+                if (inTree[node])
+                    continue;
+                if (next == -1 || isBefore(best[node], bestFrom[node], node, best[next], bestFrom[next], next))
+                    next = node;
+            }
+
+            inTree[next] = true;
+            if (bestFrom[next] != -1)
+                edges.add(bestFrom[next], next, best[next]);
+
+            for (int node = 0; node < size; node++) {
+                if (inTree[node])
+                    continue;
+                long w = weight.weight(next, node);
+                if (w >= 0 && isBefore(w, next, node, best[node], bestFrom[node], node)) {
+                    best[node] = w;
+                    bestFrom[node] = next;
+                }
+            }
+        }
+
+        return edges.build(size);
+    }
+
+    /**
+     * Builds the minimum spanning tree of the complete graph on {@code size} nodes with Borůvka's algorithm.
+     * Each of the {@code O(log n)} rounds finds the cheapest edge leaving every node in parallel by checking every
+     * other node, so this takes {@code O(n^2 log n)} time; use {@link #euclideanBoruvka} for points instead.
+     * A negative weight marks a missing edge, in which case this may return a forest.
+     */
+    public static MinimumSpanningTree boruvka(int size, EdgeWeight weight) {
+        return boruvka(size, (component, nodeBest, nodeBestTo) -> IntStream.range(0, size).parallel().forEach(node -> {
+            long best = Long.MAX_VALUE;
+            int bestTo = -1;
+            int comp = component[node];
+            for (int other = 0; other < size; other++) {
+                if (component[other] == comp)
+                    continue;
+                long w = weight.weight(node, other);
+                if (w >= 0 && (bestTo == -1 || isBefore(w, node, other, best, node, bestTo))) {
+                    best = w;
+                    bestTo = other;
+                }
+            }
+            nodeBest[node] = best;
+            nodeBestTo[node] = bestTo;
+        }));
+    }
+
+    /**
+     * Builds the Euclidean minimum spanning tree of the given 3D points with Borůvka's algorithm, weighted by
+     * squared distance.
+     * <p>
+     * Each round finds the closest point in another component for every point in parallel using a {@link KdTree},
+     * which skips whole ranges of the tree that lie in the same component as the query.
+     * Since components only ever grow, a point whose closest point from the last round is still in another component
+     * keeps it without searching again.
+     */
+    public static MinimumSpanningTree euclideanBoruvka(List<ZCoordinate> coords) {
+        int n = coords.size();
+        long[] xs = new long[n];
+        long[] ys = new long[n];
+        long[] zs = new long[n];
+        for (int i = 0; i < n; i++) {
+            ZCoordinate coord = coords.get(i);
+            xs[i] = coord.x();
+            ys[i] = coord.y();
+            zs[i] = coord.z();
+        }
+        return euclideanBoruvka(xs, ys, zs);
+    }
+
+    /**
+     * Same as {@link #euclideanBoruvka(List)} for 2D points.
+     */
+    public static MinimumSpanningTree euclideanBoruvka2D(List<Coordinate> coords) {
+        int n = coords.size();
+        long[] xs = new long[n];
+        long[] ys = new long[n];
+        for (int i = 0; i < n; i++) {
+            Coordinate coord = coords.get(i);
+            xs[i] = coord.x();
+            ys[i] = coord.y();
+        }
+        return euclideanBoruvka(xs, ys);
+    }
+
+    /**
+     * Same as {@link #euclideanBoruvka(List)} for 2D points given as coordinate arrays, which are not modified or kept.
+     */
+    public static MinimumSpanningTree euclideanBoruvka(long[] xs, long[] ys) {
+        return euclideanBoruvka(xs, ys, new long[xs.length]);
+    }
+
+    /**
+     * Same as {@link #euclideanBoruvka(List)} for points given as coordinate arrays, which are not modified or kept.
+     */
+    public static MinimumSpanningTree euclideanBoruvka(long[] xs, long[] ys, long[] zs) {
+        KdTree tree = KdTree.of(xs, ys, zs);
+        int size = tree.size();
+        return boruvka(size, (component, nodeBest, nodeBestTo) -> {
+            int[] rangeLabels = tree.getRangeLabels(component);
+            IntStream.range(0, size).parallel().forEach(node -> {
+                int previous = nodeBestTo[node];
+                if (previous != -1 && component[previous] != component[node])
+                    return;
+                long[] resultDist = new long[1];
+                nodeBestTo[node] = tree.nearestOutside(KdTree.Metric.EUCLIDEAN_SQUARED, xs[node], ys[node], zs[node],
+                        component[node], component, rangeLabels, resultDist);
+                nodeBest[node] = resultDist[0];
+            });
+        });
+    }
+
+    private static MinimumSpanningTree boruvka(int size, CheapestEdges cheapestEdges) {
+        DisjointSet dset = new DisjointSet(size);
+        int[] component = new int[size];
+        long[] nodeBest = new long[size];
+        int[] nodeBestTo = new int[size];
+        long[] compBest = new long[size];
+        int[] compBestFrom = new int[size];
+        int[] compBestTo = new int[size];
+        EdgeList edges = new EdgeList(size);
+        Arrays.fill(nodeBestTo, -1);
+
+        while (true) {
+            // Flatten the components first so the parallel pass below only reads shared state
+            for (int node = 0; node < size; node++) {
+                component[node] = dset.find(node);
+            }
+
+            cheapestEdges.find(component, nodeBest, nodeBestTo);
+
+            Arrays.fill(compBestFrom, -1);
+            for (int node = 0; node < size; node++) {
+                int bestTo = nodeBestTo[node];
+                if (bestTo == -1)
+                    continue;
+                int comp = component[node];
+                if (compBestFrom[comp] == -1
+                        || isBefore(nodeBest[node], node, bestTo, compBest[comp], compBestFrom[comp], compBestTo[comp])) {
+                    compBest[comp] = nodeBest[node];
+                    compBestFrom[comp] = node;
+                    compBestTo[comp] = bestTo;
+                }
+            }
+
+            boolean merged = false;
+            for (int comp = 0; comp < size; comp++) {
+                int node = compBestFrom[comp];
+                // Both sides of a component pair may choose the same edge, so only the first union adds it
+                if (node != -1 && dset.union(node, compBestTo[comp])) {
+                    edges.add(node, compBestTo[comp], compBest[comp]);
+                    merged = true;
+                }
+            }
+
+            if (!merged)
+                return edges.build(size);
+        }
+    }
+
+    private static boolean isBefore(long aWeight, int aFrom, int aTo, long bWeight, int bFrom, int bTo) {
+        return compare(aWeight, aFrom, aTo, bWeight, bFrom, bTo) < 0;
+    }
+
+    /**
+     * Compares two edges by weight and then by their nodes, regardless of the direction of each edge.
+     */
+    private static int compare(long aWeight, int aFrom, int aTo, long bWeight, int bFrom, int bTo) {
+        if (aWeight != bWeight)
+            return Long.compare(aWeight, bWeight);
+        int aMin = Math.min(aFrom, aTo);
+        int bMin = Math.min(bFrom, bTo);
+        if (aMin != bMin)
+            return Integer.compare(aMin, bMin);
+        return Integer.compare(Math.max(aFrom, aTo), Math.max(bFrom, bTo));
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public int getNumEdges() {
+        return this.from.length;
+    }
+
+    /**
+     * @return the lower node of the edge at the given position
+     */
+    public int getFrom(int edge) {
+        return this.from[edge];
+    }
+
+    /**
+     * @return the higher node of the edge at the given position
+     */
+    public int getTo(int edge) {
+        return this.to[edge];
+    }
+
+    public long getWeight(int edge) {
+        return this.weights[edge];
+    }
+
+    public long getTotalWeight() {
+        long total = 0;
+        for (long weight : this.weights) {
+            total += weight;
+        }
+        return total;
+    }
+
+    /**
+     * @return {@code true} if the tree spans every node, rather than being a forest
+     */
+    public boolean isConnected() {
+        return this.from.length == Math.max(this.size - 1, 0);
+    }
+
+    /**
+     * @return a disjoint set with every edge of this tree already unified
+     */
+    public DisjointSet toDisjointSet() {
+        DisjointSet dset = new DisjointSet(this.size);
+        for (int edge = 0; edge < this.from.length; edge++) {
+            dset.union(this.from[edge], this.to[edge]);
+        }
+        return dset;
+    }
+
+    /**
+     * Finds the cheapest edge from every node to a node in another component for one round of Borůvka's algorithm,
+     * storing its weight and other node, or -1 if there is none.
+     * The arrays keep their values from the previous round, and every other node starts as -1.
+     */
+    @FunctionalInterface
+    private interface CheapestEdges {
+        void find(int[] component, long[] nodeBest, int[] nodeBestTo);
+    }
+
+    @FunctionalInterface
+    public interface EdgeWeight {
+        /**
+         * @return the weight of the edge between nodes {@code i} and {@code j}, or a negative value if there is none
+         */
+        long weight(int i, int j);
+    }
+
+    /**
+     * Collects edges found out of order, then sorts them into Kruskal order.
+     */
+    private static class EdgeList {
+        private final int[] from;
+        private final int[] to;
+        private final long[] weights;
+        private int size;
+
+        EdgeList(int nodes) {
+            int capacity = Math.max(nodes - 1, 0);
+            this.from = new int[capacity];
+            this.to = new int[capacity];
+            this.weights = new long[capacity];
+        }
+
+        void add(int a, int b, long weight) {
+            this.from[this.size] = Math.min(a, b);
+            this.to[this.size] = Math.max(a, b);
+            this.weights[this.size] = weight;
+            this.size++;
+        }
+
+        MinimumSpanningTree build(int nodes) {
+            int[] order = new int[this.size];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            IntArrays.quickSort(order, (a, b) -> compare(
+                    this.weights[a], this.from[a], this.to[a],
+                    this.weights[b], this.from[b], this.to[b]));
+
+            int[] from = new int[this.size];
+            int[] to = new int[this.size];
+            long[] weights = new long[this.size];
+            for (int i = 0; i < order.length; i++) {
+                from[i] = this.from[order[i]];
+                to[i] = this.to[order[i]];
+                weights[i] = this.weights[order[i]];
+            }
+            return new MinimumSpanningTree(nodes, from, to, weights);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * AdventOfCode2025
+ * Copyright (C) 2025 SizableShrimp
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.sizableshrimp.adventofcode2025.helper;
+
+import me.sizableshrimp.adventofcode2025.templates.Coordinate;
+import me.sizableshrimp.adventofcode2025.templates.ZCoordinate;
+
+import java.util.List;
+
+/**
+ * Lazily enumerates every pair of a list of 3D points in nondecreasing order of squared Euclidean distance,
+ * like sorting all {@code n(n-1)/2} pairs by distance without ever materializing them.
+ * Ties are broken by the lower index and then the higher index of the pair, the same order as stably sorting
+ * the results of {@link Itertools#combinations}.
+ * <p>
+ * Each point keeps a sorted list of its nearest neighbors with a higher index which is only extended (by doubling its
+ * length) once it has been used up, and a heap merges the heads of all the lists.
+ * The neighbors are found with a {@link KdTree}, skipping the points with a lower index.
+ * This means consuming the first {@code m} pairs costs about {@code O((n + m) log n)} rather than {@code O(n^2 log n)}.
+ * <p>
+ * This is a cursor; call {@link #next()} to advance to the next pair and then read it with {@link #i()}, {@link #j()}
+ * and {@link #distance()}, where {@code i < j} are indices into the original list.
+ */
+public class NearestPairs {
+    private static final int INITIAL_NEIGHBORS = 4;
+
+    private final KdTree tree;
+    private final long[] xs;
+    private final long[] ys;
+    private final long[] zs;
+    /**
+     * The nearest neighbors with a higher index of each point, sorted by distance and then index, and the matching
+     * distances.
+     */
+    private final int[][] neighbors;
+    private final long[][] neighborDistances;
+    /**
+     * The index of the next neighbor of each point to be considered.
+     */
+    private final int[] positions;
+    /**
+     * A binary min-heap of the points which still have neighbors left to pair with.
+     */
+    private final int[] heap;
+    private int heapSize;
+
+    private int i = -1;
+    private int j = -1;
+    private long distance = -1;
+
+    private NearestPairs(long[] xs, long[] ys, long[] zs) {
+        int n = xs.length;
+        this.tree = KdTree.of(xs, ys, zs);
+        this.xs = xs;
+        this.ys = ys;
+        this.zs = zs;
+        this.neighbors = new int[n][];
+        this.neighborDistances = new long[n][];
+        this.positions = new int[n];
+        this.heap = new int[n];
+
+        for (int point = 0; point < n - 1; point++) {
+            this.findNeighbors(point, Math.min(INITIAL_NEIGHBORS, n - 1 - point));
+            this.heap[this.heapSize++] = point;
+        }
+
+        for (int idx = this.heapSize / 2 - 1; idx >= 0; idx--) {
+            this.siftDown(idx);
+        }
+    }
+
+    public static NearestPairs of(List<ZCoordinate> coords) {
+        int n = coords.size();
+        long[] xs = new long[n];
+        long[] ys = new long[n];
+        long[] zs = new long[n];
+        for (int idx = 0; idx < n; idx++) {
+            ZCoordinate coord = coords.get(idx);
+            xs[idx] = coord.x();
+            ys[idx] = coord.y();
+            zs[idx] = coord.z();
+        }
+        return new NearestPairs(xs, ys, zs);
+    }
+
+    /**
+     * Same as {@link #of} for 2D points, which are treated as lying on the plane {@code z = 0}.
+     */
+    public static NearestPairs of2D(List<Coordinate> coords) {
+        int n = coords.size();
+        long[] xs = new long[n];
+        long[] ys = new long[n];
+        for (int idx = 0; idx < n; idx++) {
+            Coordinate coord = coords.get(idx);
+            xs[idx] = coord.x();
+            ys[idx] = coord.y();
+        }
+        return new NearestPairs(xs, ys, new long[n]);
+    }
+
+    /**
+     * Advances to the next closest pair.
+     *
+     * @return {@code true} if there was another pair, or {@code false} if every pair has been visited
+     */
+    public boolean next() {
+        if (this.heapSize == 0)
+            return false;
+
+        int point = this.heap[0];
+        int position = this.positions[point];
+        this.i = point;
+        this.j = this.neighbors[point][position];
+        this.distance = this.neighborDistances[point][position];
+
+        this.positions[point]++;
+        if (!this.hasNeighbor(point))
+            this.heap[0] = this.heap[--this.heapSize];
+        this.siftDown(0);
+
+        return true;
+    }
+
+    /**
+     * @return the lower index of the current pair
+     */
+    public int i() {
+        return this.i;
+    }
+
+    /**
+     * @return the higher index of the current pair
+     */
+    public int j() {
+        return this.j;
+    }
+
+    /**
+     * @return the squared Euclidean distance between the points of the current pair
+     */
+    public long distance() {
+        return this.distance;
+    }
+
+    /**
+     * Loads more neighbors of {@code point} if its current list has been used up.
+     *
+     * @return {@code true} if {@code point} has a neighbor left to pair with
+     */
+    private boolean hasNeighbor(int point) {
+        int length = this.neighbors[point].length;
+        if (this.positions[point] < length)
+            return true;
+
+        int remaining = this.xs.length - 1 - point;
+        if (length == remaining)
+            return false;
+
+        this.findNeighbors(point, Math.min(length * 2, remaining));
+        return true;
+    }
+
+    private void findNeighbors(int point, int k) {
+        int[] list = new int[k];
+        long[] distances = new long[k];
+        this.tree.kNearest(KdTree.Metric.EUCLIDEAN_SQUARED, this.xs[point], this.ys[point], this.zs[point],
+                point, list, distances);
+        // The first neighbors are the same as the ones already used, since ties are broken by index
+        this.positions[point] = this.neighbors[point] == null ? 0 : this.neighbors[point].length;
+        this.neighbors[point] = list;
+        this.neighborDistances[point] = distances;
+    }
+
+    private void siftDown(int idx) {
+        int point = this.heap[idx];
+        while (true) {
+            int child = idx * 2 + 1;
+            if (child >= this.heapSize)
+                break;
+            if (child + 1 < this.heapSize && this.isBefore(this.heap[child + 1], this.heap[child]))
+                child++;
+            if (!this.isBefore(this.heap[child], point))
+                break;
+            this.heap[idx] = this.heap[child];
+            idx = child;
+        }
+        this.heap[idx] = point;
+    }
+
+    private boolean isBefore(int a, int b) {
+        long aDist = this.neighborDistances[a][this.positions[a]];
+        long bDist = this.neighborDistances[b][this.positions[b]];
+        if (aDist != bDist)
+            return aDist < bDist;
+        if (a != b)
+            return a < b;
+        return this.neighbors[a][this.positions[a]] < this.neighbors[b][this.positions[b]];
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * AdventOfCode2025
+ * Copyright (C) 2025 SizableShrimp
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.sizableshrimp.adventofcode2025.helper;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Counts paths through a directed acyclic {@link IntGraph} with a single sweep over its topological order,
+ * optionally only counting paths which visit every one of a set of required nodes (like "dac" and "fft" on Day 11).
+ * <p>
+ * Each node carries one count per subset of required nodes seen so far, stored in a flat {@code long[]} indexed by
+ * {@code node * 2^k + mask}, so {@code k} required nodes cost {@code O(2^k * (V + E))} time and {@code O(2^k * V)} memory.
+ * Only the part of the graph reachable from the starting node has to be acyclic.
+ */
+public class PathCounter {
+    private static final int MAX_REQUIRED = 20;
+
+    /**
+     * Counts the paths from {@code from} to {@code to} which pass through every node in {@code required}.
+     *
+     * @throws ArithmeticException if the count overflows a {@code long};
+     * see {@link #countPathsMod} and {@link #countPathsBig} for inputs where that is expected
+     */
+    public static long countPaths(IntGraph graph, int from, int to, int... required) {
+        return count(graph, from, to, 0, required);
+    }
+
+    /**
+     * Counts the paths from {@code from} to {@code to} which pass through every node in {@code required},
+     * modulo {@code modulus}.
+     *
+     * @param modulus a modulus from 1 to 2<sup>62</sup>, inclusive
+     */
+    public static long countPathsMod(IntGraph graph, int from, int to, long modulus, int... required) {
+        if (modulus <= 0 || modulus > (1L << 62))
+            throw new IllegalArgumentException("Modulus must be between 1 and 2^62: " + modulus);
+
+        return count(graph, from, to, modulus, required);
+    }
+
+    /**
+     * Counts the paths from {@code from} to {@code to} which pass through every node in {@code required}
+     * without any risk of overflow.
+     */
+    public static BigInteger countPathsBig(IntGraph graph, int from, int to, int... required) {
+        int[] requiredMasks = getRequiredMasks(graph, required);
+        int numMasks = 1 << required.length;
+        BigInteger[] paths = new BigInteger[getTableSize(graph, numMasks)];
+        Arrays.fill(paths, BigInteger.ZERO);
+        paths[from * numMasks + requiredMasks[from]] = BigInteger.ONE;
+        int[] order = graph.topologicalSort(from);
+        boolean[] reachesTarget = getReachesTarget(graph, order, to);
+
+        for (int node : order) {
+            if (node == to || !reachesTarget[node])
+                continue;
+
+            int base = node * numMasks;
+            for (int mask = 0; mask < numMasks; mask++) {
+                BigInteger count = paths[base + mask];
+                if (count.signum() == 0)
+                    continue;
+
+                for (int e = graph.getEdgeStart(node); e < graph.getEdgeEnd(node); e++) {
+                    int next = graph.getTarget(e);
+                    if (!reachesTarget[next])
+                        continue;
+                    int idx = next * numMasks + (mask | requiredMasks[next]);
+                    paths[idx] = paths[idx].add(count);
+                }
+            }
+        }
+
+        return paths[to * numMasks + numMasks - 1];
+    }
+
+    /**
+     * @param modulus the modulus to count with, or {@code 0} to count exactly and throw on overflow
+     */
+    private static long count(IntGraph graph, int from, int to, long modulus, int[] required) {
+        int[] requiredMasks = getRequiredMasks(graph, required);
+        int numMasks = 1 << required.length;
+        long[] paths = new long[getTableSize(graph, numMasks)];
+        paths[from * numMasks + requiredMasks[from]] = modulus == 1 ? 0 : 1;
+        int[] order = graph.topologicalSort(from);
+        boolean[] reachesTarget = getReachesTarget(graph, order, to);
+
+        for (int node : order) {
+            if (node == to || !reachesTarget[node])
+                continue;
+
+            int base = node * numMasks;
+            for (int mask = 0; mask < numMasks; mask++) {
+                long count = paths[base + mask];
+                if (count == 0)
+                    continue;
+
+                for (int e = graph.getEdgeStart(node); e < graph.getEdgeEnd(node); e++) {
+                    int next = graph.getTarget(e);
+                    if (!reachesTarget[next])
+                        continue;
+                    int idx = next * numMasks + (mask | requiredMasks[next]);
+                    if (modulus == 0) {
+                        paths[idx] = Math.addExact(paths[idx], count);
+                    } else {
+                        long sum = paths[idx] + count;
+                        paths[idx] = sum >= modulus ? sum - modulus : sum;
+                    }
+                }
+            }
+        }
+
+        return paths[to * numMasks + numMasks - 1];
+    }
+
+    /**
+     * Finds which nodes have a path to {@code to}, so that counts are never accumulated on branches which cannot
+     * contribute to the result (and would otherwise be able to overflow for no reason).
+     */
+    private static boolean[] getReachesTarget(IntGraph graph, int[] order, int to) {
+        boolean[] reachesTarget = new boolean[graph.size()];
+        reachesTarget[to] = true;
+
+        for (int i = order.length - 1; i >= 0; i--) {
+            int node = order[i];
+            for (int e = graph.getEdgeStart(node); e < graph.getEdgeEnd(node) && !reachesTarget[node]; e++) {
+                reachesTarget[node] = reachesTarget[graph.getTarget(e)];
+            }
+        }
+
+        return reachesTarget;
+    }
+
+    /**
+     * @return the length of the table of counts, which also guarantees that every index into it fits in an {@code int}
+     * @throws IllegalArgumentException if the graph has too many nodes for this many required nodes
+     */
+    private static int getTableSize(IntGraph graph, int numMasks) {
+        try {
+            return Math.multiplyExact(graph.size(), numMasks);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Graph of " + graph.size() + " nodes is too large to track "
+                    + Integer.numberOfTrailingZeros(numMasks) + " required nodes", e);
+        }
+    }
+
+    /**
+     * @return an array holding the bit that each node sets in the visited mask, or {@code 0} for nodes that are not required
+     */
+    private static int[] getRequiredMasks(IntGraph graph, int[] required) {
+        if (required.length > MAX_REQUIRED)
+            throw new IllegalArgumentException("Too many required nodes: " + required.length);
+
+        int[] masks = new int[graph.size()];
+        for (int i = 0; i < required.length; i++) {
+            masks[required[i]] |= 1 << i;
+        }
+        return masks;
+    }
+}
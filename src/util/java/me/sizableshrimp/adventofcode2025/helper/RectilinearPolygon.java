@@ -0,0 +1,149 @@
+/*
+ * AdventOfCode2025
+ * Copyright (C) 2025 SizableShrimp
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.sizableshrimp.adventofcode2025.helper;
+
+import me.sizableshrimp.adventofcode2025.templates.Coordinate;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A simple polygon whose edges are all horizontal or vertical, like the loop of red tiles on Day 9 of Advent of Code
+ * 2025, treated as the set of integer tiles which lie on its boundary or inside it.
+ * <p>
+ * The plane is compressed so that every distinct vertex x or y value gets its own slot, with another slot for the gap
+ * up to the next value, since no edge starts or ends within any resulting cell. Each cell is then either entirely
+ * inside or entirely outside, and a prefix sum of the outside cells answers whether a rectangle is contained
+ * in {@code O(log n)} time to find its slots and {@code O(1)} time to check them.
+ */
+public class RectilinearPolygon {
+    private final CoordinateCompressor xs;
+    private final CoordinateCompressor ys;
+    /**
+     * Counts the tiles of the compressed grid which are outside the polygon.
+     */
+    private final SummedAreaTable outside;
+
+    private RectilinearPolygon(List<Coordinate> vertices) {
+        int n = vertices.size();
+        if (n < 4)
+            throw new IllegalArgumentException("A rectilinear polygon needs at least 4 vertices");
+
+        this.xs = CoordinateCompressor.of(vertices.stream().mapToInt(Coordinate::x).toArray());
+        this.ys = CoordinateCompressor.of(vertices.stream().mapToInt(Coordinate::y).toArray());
+        int width = this.xs.getNumSlots();
+        int height = this.ys.getNumSlots();
+
+        boolean[] inside = new boolean[width * height];
+        // Toggles the parity of every cell to the right of each vertical edge, within the rows that edge crosses
+        boolean[] crossings = new boolean[(width + 1) * (height + 1)];
+        for (int i = 0; i < n; i++) {
+            Coordinate a = vertices.get(i);
+            Coordinate b = vertices.get((i + 1) % n);
+            if (a.x() != b.x() && a.y() != b.y())
+                throw new IllegalArgumentException("Edge from " + a + " to " + b + " is not horizontal or vertical");
+
+            int x1 = this.xs.slotOf(Math.min(a.x(), b.x()));
+            int x2 = this.xs.slotOf(Math.max(a.x(), b.x()));
+            int y1 = this.ys.slotOf(Math.min(a.y(), b.y()));
+            int y2 = this.ys.slotOf(Math.max(a.y(), b.y()));
+            for (int y = y1; y <= y2; y++) {
+                Arrays.fill(inside, y * width + x1, y * width + x2 + 1, true);
+            }
+
+            if (a.x() == b.x() && y1 != y2) {
+                // A horizontal ray at height y crosses this edge when y1 <= y < y2, which counts corners exactly once
+                crossings[y1 * (width + 1) + x1 + 1] ^= true;
+                crossings[y2 * (width + 1) + x1 + 1] ^= true;
+            }
+        }
+
+        boolean[] parity = new boolean[width];
+        for (int y = 0; y < height; y++) {
+            boolean interior = false;
+            for (int x = 0; x < width; x++) {
+                parity[x] ^= crossings[y * (width + 1) + x];
+                interior ^= parity[x];
+                if (interior)
+                    inside[y * width + x] = true;
+            }
+        }
+
+        // Weighting by the size of each slot keeps empty gap slots from ever making a rectangle uncontained
+        this.outside = SummedAreaTable.ofSlots(this.xs, this.ys, (x, y) -> inside[y * width + x] ? 0 : 1);
+    }
+
+    /**
+     * Creates a polygon from its vertices in order around the boundary, where each vertex shares
+     * an x or y value with the next one and the last vertex connects back to the first.
+     */
+    public static RectilinearPolygon of(List<Coordinate> vertices) {
+        return new RectilinearPolygon(vertices);
+    }
+
+    /**
+     * @return {@code true} if the tile is on the boundary of or inside this polygon
+     */
+    public boolean contains(int x, int y) {
+        return this.containsRectangle(x, y, x, y);
+    }
+
+    public boolean contains(Coordinate coord) {
+        return this.contains(coord.x(), coord.y());
+    }
+
+    /**
+     * @return {@code true} if every tile of the rectangle between the two corners, inclusive, is on the boundary of
+     * or inside this polygon
+     */
+    public boolean containsRectangle(Coordinate a, Coordinate b) {
+        return this.containsRectangle(Math.min(a.x(), b.x()), Math.min(a.y(), b.y()),
+                Math.max(a.x(), b.x()), Math.max(a.y(), b.y()));
+    }
+
+    /**
+     * Takes {@code O(log n)} time for binary searching the slots of each side, then {@code O(1)} time for the check.
+     *
+     * @return {@code true} if every tile of the rectangle, inclusive, is on the boundary of or inside this polygon
+     */
+    public boolean containsRectangle(int minX, int minY, int maxX, int maxY) {
+        int x1 = this.xs.slotOf(minX);
+        int y1 = this.ys.slotOf(minY);
+        int x2 = this.xs.slotOf(maxX);
+        int y2 = this.ys.slotOf(maxY);
+        if (x1 == -1 || y1 == -1 || x2 == -1 || y2 == -1)
+            return false;
+
+        return this.outside.sum(x1, y1, x2, y2) == 0;
+    }
+
+    /**
+     * @return the number of tiles on the boundary of or inside this polygon
+     */
+    public long countTiles() {
+        long width = this.xs.unrank(this.xs.size() - 1) - this.xs.unrank(0) + 1;
+        long height = this.ys.unrank(this.ys.size() - 1) - this.ys.unrank(0) + 1;
+        return width * height - this.outside.total();
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * AdventOfCode2025
+ * Copyright (C) 2025 SizableShrimp
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.sizableshrimp.adventofcode2025.helper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Splits the rows of a grid into contiguous bands which are processed in parallel on the common fork-join pool.
+ * <p>
+ * Grids with fewer than {@link #PARALLEL_THRESHOLD} cells are processed as a single band on the calling thread, since
+ * splitting them costs more than it saves. Each band produces its own result, and results are always combined in band
+ * order, so the outcome does not depend on how the bands were scheduled.
+ */
+public final class RowBands {
+    public static final int PARALLEL_THRESHOLD = 1 << 16;
+    /**
+     * How many bands to create per thread, so that threads finishing early can take more work.
+     */
+    private static final int BANDS_PER_THREAD = 4;
+
+    private RowBands() {}
+
+    /**
+     * @return the number of bands the rows of a grid of the given size are split into
+     */
+    public static int getNumBands(int width, int height) {
+        if ((long) width * height < PARALLEL_THRESHOLD)
+            return Math.min(1, height);
+
+        return Math.min(height, ForkJoinPool.getCommonPoolParallelism() * BANDS_PER_THREAD);
+    }
+
+    /**
+     * @return the first row of the band, where the last band ends at {@code height}
+     */
+    private static int getBandStart(int band, int numBands, int height) {
+        return (int) ((long) band * height / numBands);
+    }
+
+    /**
+     * Runs {@code consumer} on every band of rows, in parallel if the grid is large enough.
+     */
+    public static void forEach(int width, int height, BandConsumer consumer) {
+        int numBands = getNumBands(width, height);
+        run(numBands, band -> consumer.accept(getBandStart(band, numBands, height), getBandStart(band + 1, numBands, height)));
+    }
+
+    /**
+     * @return the sum of {@code function} over every band of rows, computed in parallel if the grid is large enough
+     */
+    public static long sum(int width, int height, BandToLongFunction function) {
+        int numBands = getNumBands(width, height);
+        long[] sums = new long[numBands];
+        run(numBands, band -> sums[band] = function.apply(getBandStart(band, numBands, height), getBandStart(band + 1, numBands, height)));
+        return Arrays.stream(sums).sum();
+    }
+
+    /**
+     * @return the lists created by {@code function} for every band of rows joined in order, computed in parallel if
+     * the grid is large enough
+     */
+    public static <R> List<R> flatMap(int width, int height, BandFunction<List<R>> function) {
+        int numBands = getNumBands(width, height);
+        List<List<R>> lists = new ArrayList<>(numBands);
+        for (int band = 0; band < numBands; band++) {
+            lists.add(null);
+        }
+        run(numBands, band -> lists.set(band, function.apply(getBandStart(band, numBands, height), getBandStart(band + 1, numBands, height))));
+
+        if (numBands == 1)
+            return lists.get(0);
+        int size = 0;
+        for (List<R> list : lists) {
+            size += list.size();
+        }
+        List<R> result = new ArrayList<>(size);
+        for (List<R> list : lists) {
+            result.addAll(list);
+        }
+        return result;
+    }
+
+    private static void run(int numBands, BandRunner runner) {
+        if (numBands == 1) {
+            runner.run(0);
+        } else if (numBands > 1) {
+            IntStream.range(0, numBands).parallel().forEach(runner::run);
+        }
+    }
+
+    @FunctionalInterface
+    private interface BandRunner {
+        void run(int band);
+    }
+
+    @FunctionalInterface
+    public interface BandConsumer {
+        /**
+         * @param fromRow the first row of the band, inclusive
+         * @param toRow the last row of the band, exclusive
+         */
+        void accept(int fromRow, int toRow);
+    }
+
+    @FunctionalInterface
+    public interface BandToLongFunction {
+        /**
+         * @param fromRow the first row of the band, inclusive
+         * @param toRow the last row of the band, exclusive
+         */
+        long apply(int fromRow, int toRow);
+    }
+
+    @FunctionalInterface
+    public interface BandFunction<R> {
+        /**
+         * @param fromRow the first row of the band, inclusive
+         * @param toRow the last row of the band, exclusive
+         */
+        R apply(int fromRow, int toRow);
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * AdventOfCode2025
+ * Copyright (C) 2025 SizableShrimp
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.sizableshrimp.adventofcode2025.helper;
+
+/**
+ * A fixed-size array of {@code long} values supporting adding to a range and querying the sum, maximum or minimum of
+ * a range, each in {@code O(log n)} time using lazy propagation.
+ * All ranges are given by their first and last index, inclusive.
+ * This can also be used as the {@link SweepLine.ActiveSet} of a sweep line.
+ */
+public class SegmentTree implements SweepLine.ActiveSet {
+    private final int size;
+    private final long[] sums;
+    private final long[] maxes;
+    private final long[] mins;
+    /**
+     * The amount still to be added to every value below each node, which has already been applied to the node itself.
+     */
+    private final long[] pending;
+
+    /**
+     * Create a segment tree of the given size with every value starting at 0.
+     */
+    public SegmentTree(int size) {
+        this.size = size;
+        int nodes = Math.max(4 * size, 1);
+        this.sums = new long[nodes];
+        this.maxes = new long[nodes];
+        this.mins = new long[nodes];
+        this.pending = new long[nodes];
+    }
+
+    public static SegmentTree of(long[] values) {
+        SegmentTree tree = new SegmentTree(values.length);
+        if (values.length > 0)
+            tree.build(1, 0, values.length - 1, values);
+        return tree;
+    }
+
+    private void build(int node, int lo, int hi, long[] values) {
+        if (lo == hi) {
+            this.sums[node] = values[lo];
+            this.maxes[node] = values[lo];
+            this.mins[node] = values[lo];
+            return;
+        }
+
+        int mid = (lo + hi) >>> 1;
+        this.build(node * 2, lo, mid, values);
+        this.build(node * 2 + 1, mid + 1, hi, values);
+        this.pull(node);
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Adds {@code delta} to every value from {@code from} to {@code to}, inclusive.
+     */
+    @Override
+    public void add(int from, int to, long delta) {
+        this.checkRange(from, to);
+        if (from <= to)
+            this.add(1, 0, this.size - 1, from, to, delta);
+    }
+
+    private void add(int node, int lo, int hi, int from, int to, long delta) {
+        if (from <= lo && hi <= to) {
+            this.apply(node, hi - lo + 1, delta);
+            return;
+        }
+
+        this.push(node, lo, hi);
+        int mid = (lo + hi) >>> 1;
+        if (from <= mid)
+            this.add(node * 2, lo, mid, from, to, delta);
+        if (to > mid)
+            this.add(node * 2 + 1, mid + 1, hi, from, to, delta);
+        this.pull(node);
+    }
+
+    public void set(int index, long value) {
+        this.add(index, index, value - this.get(index));
+    }
+
+    public long get(int index) {
+        return this.sum(index, index);
+    }
+
+    /**
+     * @return the sum of the values from {@code from} to {@code to}, inclusive, or 0 if the range is empty
+     */
+    public long sum(int from, int to) {
+        this.checkRange(from, to);
+        return from > to ? 0 : this.query(1, 0, this.size - 1, from, to, Op.SUM);
+    }
+
+    /**
+     * @return the greatest value from {@code from} to {@code to}, inclusive, or {@link Long#MIN_VALUE} if the range is
+     * empty
+     */
+    public long max(int from, int to) {
+        this.checkRange(from, to);
+        return from > to ? Long.MIN_VALUE : this.query(1, 0, this.size - 1, from, to, Op.MAX);
+    }
+
+    /**
+     * @return the least value from {@code from} to {@code to}, inclusive, or {@link Long#MAX_VALUE} if the range is
+     * empty
+     */
+    public long min(int from, int to) {
+        this.checkRange(from, to);
+        return from > to ? Long.MAX_VALUE : this.query(1, 0, this.size - 1, from, to, Op.MIN);
+    }
+
+    /**
+     * @return the sum of every value, in {@code O(1)}
+     */
+    public long sum() {
+        return this.size == 0 ? 0 : this.sums[1];
+    }
+
+    /**
+     * @return the greatest value, in {@code O(1)}
+     */
+    public long max() {
+        return this.size == 0 ? Long.MIN_VALUE : this.maxes[1];
+    }
+
+    /**
+     * @return the least value, in {@code O(1)}
+     */
+    public long min() {
+        return this.size == 0 ? Long.MAX_VALUE : this.mins[1];
+    }
+
+    private long query(int node, int lo, int hi, int from, int to, Op op) {
+        if (from <= lo && hi <= to) {
+            return switch (op) {
+                case SUM -> this.sums[node];
+                case MAX -> this.maxes[node];
+                case MIN -> this.mins[node];
+            };
+        }
+
+        this.push(node, lo, hi);
+        int mid = (lo + hi) >>> 1;
+        if (to <= mid)
+            return this.query(node * 2, lo, mid, from, to, op);
+        if (from > mid)
+            return this.query(node * 2 + 1, mid + 1, hi, from, to, op);
+
+        long a = this.query(node * 2, lo, mid, from, to, op);
+        long b = this.query(node * 2 + 1, mid + 1, hi, from, to, op);
+        return switch (op) {
+            case SUM -> a + b;
+            case MAX -> Math.max(a, b);
+            case MIN -> Math.min(a, b);
+        };
+    }
+
+    private void apply(int node, int length, long delta) {
+        this.sums[node] += delta * length;
+        this.maxes[node] += delta;
+        this.mins[node] += delta;
+        this.pending[node] += delta;
+    }
+
+    private void push(int node, int lo, int hi) {
+        long delta = this.pending[node];
+        if (delta == 0)
+            return;
+
+        int mid = (lo + hi) >>> 1;
+        this.apply(node * 2, mid - lo + 1, delta);
+        this.apply(node * 2 + 1, hi - mid, delta);
+        this.pending[node] = 0;
+    }
+
+    private void pull(int node) {
+        this.sums[node] = this.sums[node * 2] + this.sums[node * 2 + 1];
+        this.maxes[node] = Math.max(this.maxes[node * 2], this.maxes[node * 2 + 1]);
+        this.mins[node] = Math.min(this.mins[node * 2], this.mins[node * 2 + 1]);
+    }
+
+    private void checkRange(int from, int to) {
+        if (from < 0 || to >= this.size)
+            throw new IndexOutOfBoundsException("Range " + from + ".." + to + " is out of bounds for size " + this.size);
+    }
+
+    private enum Op {
+        SUM, MAX, MIN
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * AdventOfCode2025
+ * Copyright (C) 2025 SizableShrimp
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.sizableshrimp.adventofcode2025.helper;
+
+import me.sizableshrimp.adventofcode2025.templates.Orientation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A small boolean shape of at most 64 cells packed into a {@code long}, where cell {@code (x, y)} is bit
+ * {@code y * width + x}. Masks are immutable and cheap to compare, so they work well as keys when searching over the
+ * orientations of many shapes.
+ * <p>
+ * Masks are ordered by width, then height, then bits as an unsigned value, and {@link #canonical()} picks the least of
+ * the 8 orientations. Two shapes are the same up to rotation and reflection exactly when their canonical masks are equal.
+ */
+public record ShapeMask(int width, int height, long bits) implements Comparable<ShapeMask> {
+    public ShapeMask {
+        if (width < 0 || height < 0 || width * height > Long.SIZE)
+            throw new IllegalArgumentException("Shape of size " + width + "x" + height + " does not fit in a mask");
+    }
+
+    public static ShapeMask of(boolean[][] grid) {
+        return of(grid.length == 0 ? 0 : grid[0].length, grid.length, (x, y) -> grid[y][x]);
+    }
+
+    public static ShapeMask of(int width, int height, BoolGridView.CellGetter getter) {
+        if (width * height > Long.SIZE)
+            throw new IllegalArgumentException("Shape of size " + width + "x" + height + " does not fit in a mask");
+
+        long bits = 0;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (getter.get(x, y))
+                    bits |= 1L << (y * width + x);
+            }
+        }
+        return new ShapeMask(width, height, bits);
+    }
+
+    public boolean get(int x, int y) {
+        return (this.bits & (1L << (y * this.width + x))) != 0;
+    }
+
+    /**
+     * @return the number of cells in the shape
+     */
+    public int count() {
+        return Long.bitCount(this.bits);
+    }
+
+    public ShapeMask orient(Orientation orientation) {
+        if (orientation == Orientation.IDENTITY)
+            return this;
+
+        return of(orientation.getWidth(this.width, this.height), orientation.getHeight(this.width, this.height),
+                (x, y) -> this.get(orientation.getSourceX(x, y, this.width, this.height), orientation.getSourceY(x, y, this.width, this.height)));
+    }
+
+    /**
+     * @return the least of the 8 orientations of this shape, which is the same for every orientation of it
+     */
+    public ShapeMask canonical() {
+        ShapeMask best = this;
+        for (Orientation orientation : Orientation.values()) {
+            ShapeMask oriented = this.orient(orientation);
+            if (oriented.compareTo(best) < 0)
+                best = oriented;
+        }
+        return best;
+    }
+
+    /**
+     * @return every distinct orientation of this shape, in the order of {@link Orientation#values()}, so a symmetric
+     * shape has fewer than 8
+     */
+    public List<ShapeMask> distinctOrientations() {
+        List<ShapeMask> result = new ArrayList<>(8);
+        for (Orientation orientation : Orientation.values()) {
+            ShapeMask oriented = this.orient(orientation);
+            if (!result.contains(oriented))
+                result.add(oriented);
+        }
+        return result;
+    }
+
+    public BoolGridView view(Orientation orientation) {
+        return BoolGridView.of(this.width, this.height, this::get, orientation);
+    }
+
+    @Override
+    public int compareTo(ShapeMask other) {
+        if (this.width != other.width)
+            return Integer.compare(this.width, other.width);
+        if (this.height != other.height)
+            return Integer.compare(this.height, other.height);
+        return Long.compareUnsigned(this.bits, other.bits);
+    }
+
+    @Override
+    public String toString() {
+        return this.view(Orientation.IDENTITY).toString();
+    }
+}
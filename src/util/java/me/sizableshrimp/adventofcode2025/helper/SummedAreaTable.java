@@ -0,0 +1,116 @@
+/*
+ * AdventOfCode2025
+ * Copyright (C) 2025 SizableShrimp
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.sizableshrimp.adventofcode2025.helper;
+
+/**
+ * An immutable 2D prefix sum table, answering the sum of any rectangle of a grid in {@code O(1)}.
+ * Like the rest of the grid helpers, cells are addressed by {@code (x, y)} where the source grid is indexed by
+ * {@code grid[y][x]}.
+ */
+public class SummedAreaTable {
+    private final int width;
+    private final int height;
+    /**
+     * The sum of the rectangle from {@code (0, 0)} (inclusive) to {@code (x, y)} (exclusive),
+     * indexed by {@code y * (width + 1) + x}.
+     */
+    private final long[] sums;
+
+    private SummedAreaTable(int width, int height, CellFunction function) {
+        this.width = width;
+        this.height = height;
+        this.sums = new long[(width + 1) * (height + 1)];
+
+        int stride = width + 1;
+        for (int y = 0; y < height; y++) {
+            long rowSum = 0;
+            for (int x = 0; x < width; x++) {
+                rowSum += function.get(x, y);
+                this.sums[(y + 1) * stride + x + 1] = this.sums[y * stride + x + 1] + rowSum;
+            }
+        }
+    }
+
+    public static SummedAreaTable of(int width, int height, CellFunction function) {
+        return new SummedAreaTable(width, height, function);
+    }
+
+    public static SummedAreaTable of(int[][] grid) {
+        return new SummedAreaTable(grid.length == 0 ? 0 : grid[0].length, grid.length, (x, y) -> grid[y][x]);
+    }
+
+    public static SummedAreaTable of(long[][] grid) {
+        return new SummedAreaTable(grid.length == 0 ? 0 : grid[0].length, grid.length, (x, y) -> grid[y][x]);
+    }
+
+    /**
+     * Creates a table counting the {@code true} cells of the grid.
+     */
+    public static SummedAreaTable of(boolean[][] grid) {
+        return new SummedAreaTable(grid.length == 0 ? 0 : grid[0].length, grid.length, (x, y) -> grid[y][x] ? 1 : 0);
+    }
+
+    /**
+     * Creates a table over the grid of slots of two {@link CoordinateCompressor}s, where the value of each
+     * slot cell is multiplied by the number of original cells it covers.
+     * This means that the sum of a range of slots is the same as the sum over the uncompressed grid.
+     */
+    public static SummedAreaTable ofSlots(CoordinateCompressor xs, CoordinateCompressor ys, CellFunction function) {
+        return new SummedAreaTable(xs.getNumSlots(), ys.getNumSlots(),
+                (x, y) -> function.get(x, y) * xs.getSlotLength(x) * ys.getSlotLength(y));
+    }
+
+    public int getWidth() {
+        return this.width;
+    }
+
+    public int getHeight() {
+        return this.height;
+    }
+
+    /**
+     * @return the sum of the rectangle between the given cells, inclusive
+     */
+    public long sum(int minX, int minY, int maxX, int maxY) {
+        int stride = this.width + 1;
+        return this.sums[(maxY + 1) * stride + maxX + 1] - this.sums[minY * stride + maxX + 1]
+                - this.sums[(maxY + 1) * stride + minX] + this.sums[minY * stride + minX];
+    }
+
+    public long get(int x, int y) {
+        return this.sum(x, y, x, y);
+    }
+
+    /**
+     * @return the sum of the whole grid
+     */
+    public long total() {
+        return this.sums[this.sums.length - 1];
+    }
+
+    @FunctionalInterface
+    public interface CellFunction {
+        long get(int x, int y);
+    }
+}
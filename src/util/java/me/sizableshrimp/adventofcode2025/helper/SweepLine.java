@@ -0,0 +1,371 @@
+/*
+ * AdventOfCode2025
+ * Copyright (C) 2025 SizableShrimp
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.sizableshrimp.adventofcode2025.helper;
+
+import it.unimi.dsi.fastutil.longs.LongArrays;
+import me.sizableshrimp.adventofcode2025.templates.Coordinate;
+import me.sizableshrimp.adventofcode2025.templates.LongCoordinate;
+
+import java.util.Arrays;
+
+/**
+ * Sweeps a vertical line across the plane from left to right, applying range updates along the y axis to an
+ * {@link ActiveSet} as it passes the x value of each event.
+ * <p>
+ * Events are kept in primitive arrays and sorted once, so sweeping {@code n} events costs {@code O(n log n)} with no
+ * boxing. {@link Rectangles} and {@link Segments} collect shapes and answer the common questions about them, while
+ * {@link #sweep} can drive any other active set.
+ * <p>
+ * Like the rest of the helpers, shapes are made of integer tiles with inclusive bounds, so the rectangle from
+ * {@code (0, 0)} to {@code (1, 1)} has an area of 4.
+ */
+public class SweepLine {
+    private SweepLine() {}
+
+    /**
+     * Sweeps across the given events in order of x, where event {@code i} adds {@code deltas[i]} to every index from
+     * {@code froms[i]} to {@code tos[i]}, inclusive, of the active set.
+     * After every event at the same x has been applied, {@code visitor} is called with that x and the x of the next
+     * event, or the same x again after the last event.
+     */
+    public static <S extends ActiveSet> void sweep(long[] xs, int[] froms, int[] tos, long[] deltas, S active,
+            SweepVisitor<? super S> visitor) {
+        int n = xs.length;
+        long[] sortedXs = xs.clone();
+        long[] order = new long[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        LongArrays.quickSort(sortedXs, order);
+
+        int i = 0;
+        while (i < n) {
+            long x = sortedXs[i];
+            while (i < n && sortedXs[i] == x) {
+                int event = (int) order[i++];
+                active.add(froms[event], tos[event], deltas[event]);
+            }
+            visitor.visit(x, i < n ? sortedXs[i] : x, active);
+        }
+    }
+
+    /**
+     * A structure tracking the ranges crossing the sweep line, indexed by compressed y values.
+     * {@link SegmentTree} can be used directly to track how many ranges cover each index.
+     */
+    public interface ActiveSet {
+        /**
+         * Adds {@code delta} to every index from {@code from} to {@code to}, inclusive.
+         */
+        void add(int from, int to, long delta);
+    }
+
+    @FunctionalInterface
+    public interface SweepVisitor<S> {
+        void visit(long x, long nextX, S active);
+    }
+
+    /**
+     * An active set over weighted indices which tracks the total weight of the indices covered by at least one range.
+     * Every range removed must have been added first, so that no count goes below 0.
+     */
+    public static class CoverageTree implements ActiveSet {
+        private final int size;
+        private final long[] counts;
+        private final long[] covered;
+        private final long[] weights;
+
+        public CoverageTree(long[] weights) {
+            this.size = weights.length;
+            int nodes = Math.max(4 * this.size, 1);
+            this.counts = new long[nodes];
+            this.covered = new long[nodes];
+            this.weights = new long[nodes];
+            if (this.size > 0)
+                this.build(1, 0, this.size - 1, weights);
+        }
+
+        private void build(int node, int lo, int hi, long[] weights) {
+            if (lo == hi) {
+                this.weights[node] = weights[lo];
+                return;
+            }
+
+            int mid = (lo + hi) >>> 1;
+            this.build(node * 2, lo, mid, weights);
+            this.build(node * 2 + 1, mid + 1, hi, weights);
+            this.weights[node] = this.weights[node * 2] + this.weights[node * 2 + 1];
+        }
+
+        @Override
+        public void add(int from, int to, long delta) {
+            if (from <= to)
+                this.add(1, 0, this.size - 1, from, to, delta);
+        }
+
+        // Counts are never pushed down, since a node fully covered by a range does not care about its children
+        private void add(int node, int lo, int hi, int from, int to, long delta) {
+            if (from <= lo && hi <= to) {
+                this.counts[node] += delta;
+            } else {
+                int mid = (lo + hi) >>> 1;
+                if (from <= mid)
+                    this.add(node * 2, lo, mid, from, to, delta);
+                if (to > mid)
+                    this.add(node * 2 + 1, mid + 1, hi, from, to, delta);
+            }
+
+            if (this.counts[node] > 0) {
+                this.covered[node] = this.weights[node];
+            } else {
+                this.covered[node] = lo == hi ? 0 : this.covered[node * 2] + this.covered[node * 2 + 1];
+            }
+        }
+
+        /**
+         * @return the total weight of the indices covered by at least one range
+         */
+        public long getCoveredWeight() {
+            return this.size == 0 ? 0 : this.covered[1];
+        }
+    }
+
+    /**
+     * A collection of axis-aligned rectangles given by their inclusive corners.
+     */
+    public static class Rectangles {
+        private long[] minXs = new long[16];
+        private long[] minYs = new long[16];
+        private long[] maxXs = new long[16];
+        private long[] maxYs = new long[16];
+        private int size;
+
+        public Rectangles add(long minX, long minY, long maxX, long maxY) {
+            if (minX > maxX || minY > maxY)
+                throw new IllegalArgumentException("Rectangle minimum must not be after its maximum");
+
+            if (this.size == this.minXs.length) {
+                int capacity = this.size * 2;
+                this.minXs = Arrays.copyOf(this.minXs, capacity);
+                this.minYs = Arrays.copyOf(this.minYs, capacity);
+                this.maxXs = Arrays.copyOf(this.maxXs, capacity);
+                this.maxYs = Arrays.copyOf(this.maxYs, capacity);
+            }
+            this.minXs[this.size] = minX;
+            this.minYs[this.size] = minY;
+            this.maxXs[this.size] = maxX;
+            this.maxYs[this.size] = maxY;
+            this.size++;
+            return this;
+        }
+
+        /**
+         * Adds the rectangle between two opposite corners, in any order.
+         */
+        public Rectangles add(Coordinate a, Coordinate b) {
+            return this.add(Math.min(a.x(), b.x()), Math.min(a.y(), b.y()), Math.max(a.x(), b.x()), Math.max(a.y(), b.y()));
+        }
+
+        /**
+         * Adds the rectangle between two opposite corners, in any order.
+         */
+        public Rectangles add(LongCoordinate a, LongCoordinate b) {
+            return this.add(Math.min(a.x(), b.x()), Math.min(a.y(), b.y()), Math.max(a.x(), b.x()), Math.max(a.y(), b.y()));
+        }
+
+        public int size() {
+            return this.size;
+        }
+
+        /**
+         * @return the number of tiles covered by at least one rectangle
+         */
+        public long unionArea() {
+            long[] area = {0};
+            this.sweep((compressor, boundaries) -> {
+                long[] weights = new long[boundaries - 1];
+                for (int i = 0; i < weights.length; i++) {
+                    weights[i] = compressor.unrank(i + 1) - compressor.unrank(i);
+                }
+                return new CoverageTree(weights);
+            }, (x, nextX, active) -> area[0] += active.getCoveredWeight() * (nextX - x));
+            return area[0];
+        }
+
+        /**
+         * @return the greatest number of rectangles sharing a single tile
+         */
+        public int maxOverlapDepth() {
+            long[] depth = {0};
+            this.sweep((compressor, boundaries) -> new SegmentTree(boundaries - 1),
+                    (x, nextX, active) -> depth[0] = Math.max(depth[0], active.max()));
+            return (int) depth[0];
+        }
+
+        /**
+         * Sweeps across the rectangles, where each one is added when the line reaches its left edge and removed just
+         * after its right edge, over the elementary y intervals between consecutive boundaries.
+         */
+        private <S extends ActiveSet> void sweep(ActiveSetFactory<S> factory, SweepVisitor<? super S> visitor) {
+            if (this.size == 0)
+                return;
+
+            long[] boundaries = new long[this.size * 2];
+            for (int i = 0; i < this.size; i++) {
+                boundaries[i * 2] = this.minYs[i];
+                boundaries[i * 2 + 1] = this.maxYs[i] + 1;
+            }
+            CoordinateCompressor compressor = CoordinateCompressor.of(boundaries);
+
+            int events = this.size * 2;
+            long[] xs = new long[events];
+            int[] froms = new int[events];
+            int[] tos = new int[events];
+            long[] deltas = new long[events];
+            for (int i = 0; i < this.size; i++) {
+                int from = compressor.rank(this.minYs[i]);
+                int to = compressor.rank(this.maxYs[i] + 1) - 1;
+                xs[i * 2] = this.minXs[i];
+                xs[i * 2 + 1] = this.maxXs[i] + 1;
+                froms[i * 2] = froms[i * 2 + 1] = from;
+                tos[i * 2] = tos[i * 2 + 1] = to;
+                deltas[i * 2] = 1;
+                deltas[i * 2 + 1] = -1;
+            }
+
+            SweepLine.sweep(xs, froms, tos, deltas, factory.create(compressor, compressor.size()), visitor);
+        }
+
+        @FunctionalInterface
+        private interface ActiveSetFactory<S extends ActiveSet> {
+            S create(CoordinateCompressor compressor, int boundaries);
+        }
+    }
+
+    /**
+     * A collection of horizontal and vertical segments given by their inclusive endpoints.
+     */
+    public static class Segments {
+        private long[] horizontal = new long[48];
+        private int numHorizontal;
+        private long[] vertical = new long[48];
+        private int numVertical;
+
+        /**
+         * Adds a horizontal segment at {@code y} from {@code minX} to {@code maxX}, inclusive.
+         */
+        public Segments addHorizontal(long y, long minX, long maxX) {
+            this.horizontal = append(this.horizontal, this.numHorizontal++, y, Math.min(minX, maxX), Math.max(minX, maxX));
+            return this;
+        }
+
+        /**
+         * Adds a vertical segment at {@code x} from {@code minY} to {@code maxY}, inclusive.
+         */
+        public Segments addVertical(long x, long minY, long maxY) {
+            this.vertical = append(this.vertical, this.numVertical++, x, Math.min(minY, maxY), Math.max(minY, maxY));
+            return this;
+        }
+
+        /**
+         * Adds the segment between two endpoints which share an x or y value.
+         * A single point is treated as a horizontal segment.
+         */
+        public Segments add(Coordinate a, Coordinate b) {
+            if (a.y() == b.y())
+                return this.addHorizontal(a.y(), a.x(), b.x());
+            if (a.x() == b.x())
+                return this.addVertical(a.x(), a.y(), b.y());
+            throw new IllegalArgumentException("Segment from " + a + " to " + b + " is not horizontal or vertical");
+        }
+
+        private static long[] append(long[] array, int idx, long a, long b, long c) {
+            if (idx * 3 == array.length)
+                array = Arrays.copyOf(array, array.length * 2);
+            array[idx * 3] = a;
+            array[idx * 3 + 1] = b;
+            array[idx * 3 + 2] = c;
+            return array;
+        }
+
+        public int getNumHorizontal() {
+            return this.numHorizontal;
+        }
+
+        public int getNumVertical() {
+            return this.numVertical;
+        }
+
+        /**
+         * Counts the pairs of a horizontal and a vertical segment which share a tile, including touching endpoints.
+         * Segments running in the same direction are never counted, even if they overlap.
+         */
+        public long countIntersections() {
+            if (this.numHorizontal == 0 || this.numVertical == 0)
+                return 0;
+
+            long[] ys = new long[this.numHorizontal];
+            for (int i = 0; i < this.numHorizontal; i++) {
+                ys[i] = this.horizontal[i * 3];
+            }
+            CoordinateCompressor compressor = CoordinateCompressor.of(ys);
+            SegmentTree active = new SegmentTree(compressor.size());
+
+            // Each event is keyed by x, then by type so that horizontal segments are added and removed before
+            // any vertical segment at the same x is counted
+            int events = this.numHorizontal * 2 + this.numVertical;
+            long[] xs = new long[events];
+            long[] keys = new long[events];
+            int event = 0;
+            for (int i = 0; i < this.numHorizontal; i++) {
+                xs[event] = this.horizontal[i * 3 + 1];
+                keys[event++] = i;
+                xs[event] = this.horizontal[i * 3 + 2] + 1;
+                keys[event++] = i;
+            }
+            for (int i = 0; i < this.numVertical; i++) {
+                xs[event] = this.vertical[i * 3];
+                keys[event++] = 1L << 32 | i;
+            }
+            LongArrays.quickSort(xs, keys);
+
+            long count = 0;
+            for (int i = 0; i < events; i++) {
+                int idx = (int) keys[i];
+                if (keys[i] >>> 32 == 0) {
+                    int y = compressor.rank(this.horizontal[idx * 3]);
+                    // The first event of a segment is always its start, since the end is strictly after it
+                    boolean isStart = xs[i] == this.horizontal[idx * 3 + 1];
+                    active.add(y, y, isStart ? 1 : -1);
+                } else {
+                    int from = compressor.ceilRank(this.vertical[idx * 3 + 1]);
+                    int to = compressor.floorRank(this.vertical[idx * 3 + 2]);
+                    if (from <= to)
+                        count += active.sum(from, to);
+                }
+            }
+            return count;
+        }
+    }
+}
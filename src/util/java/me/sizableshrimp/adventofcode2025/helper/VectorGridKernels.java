@@ -0,0 +1,171 @@
+/*
+ * AdventOfCode2025
+ * Copyright (C) 2025 SizableShrimp
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.sizableshrimp.adventofcode2025.helper;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The Vector API implementations behind {@link GridKernels}, which must only be loaded when the
+ * {@code jdk.incubator.vector} module is available.
+ * Each method handles whole vectors and then finishes the remaining tail with a scalar loop.
+ */
+final class VectorGridKernels {
+    private static final VectorSpecies<Byte> BYTES = ByteVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+
+    private VectorGridKernels() {}
+
+    static void match(byte[] src, int srcOffset, byte target, boolean[] dst, int dstOffset, int length) {
+        int i = 0;
+        for (int bound = BYTES.loopBound(length); i < bound; i += BYTES.length()) {
+            ByteVector.fromArray(BYTES, src, srcOffset + i).eq(target).intoArray(dst, dstOffset + i);
+        }
+        for (; i < length; i++) {
+            dst[dstOffset + i] = src[srcOffset + i] == target;
+        }
+    }
+
+    static void digits(byte[] src, int srcOffset, int[] dst, int dstOffset, int length) {
+        int parts = BYTES.length() / INTS.length();
+        int i = 0;
+        for (int bound = BYTES.loopBound(length); i < bound; i += BYTES.length()) {
+            ByteVector chars = ByteVector.fromArray(BYTES, src, srcOffset + i);
+            for (int part = 0; part < parts; part++) {
+                // Widen before subtracting so bytes of 0x80 and above match the scalar char arithmetic
+                IntVector digits = ((IntVector) chars.convertShape(VectorOperators.B2I, INTS, part)).and(0xFF).sub('0');
+                digits.intoArray(dst, dstOffset + i + part * INTS.length());
+            }
+        }
+        for (; i < length; i++) {
+            dst[dstOffset + i] = (src[srcOffset + i] & 0xFF) - '0';
+        }
+    }
+
+    static int count(boolean[] data, int from, int to) {
+        int count = 0;
+        int i = from;
+        for (int bound = from + BYTES.loopBound(to - from); i < bound; i += BYTES.length()) {
+            count += VectorMask.fromArray(BYTES, data, i).trueCount();
+        }
+        for (; i < to; i++) {
+            if (data[i])
+                count++;
+        }
+        return count;
+    }
+
+    static int countEquals(int[] data, int from, int to, int target) {
+        int count = 0;
+        int i = from;
+        for (int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length()) {
+            count += IntVector.fromArray(INTS, data, i).eq(target).trueCount();
+        }
+        for (; i < to; i++) {
+            if (data[i] == target)
+                count++;
+        }
+        return count;
+    }
+
+    static long sum(int[] data, int from, int to) {
+        // Lanes are widened to longs before adding, so the sum cannot overflow partway through
+        int parts = INTS.length() / LONGS.length();
+        LongVector sums = LongVector.zero(LONGS);
+        int i = from;
+        for (int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length()) {
+            IntVector values = IntVector.fromArray(INTS, data, i);
+            for (int part = 0; part < parts; part++) {
+                sums = sums.add((LongVector) values.convertShape(VectorOperators.I2L, LONGS, part));
+            }
+        }
+        long sum = sums.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            sum += data[i];
+        }
+        return sum;
+    }
+
+    static long sum(long[] data, int from, int to) {
+        LongVector sums = LongVector.zero(LONGS);
+        int i = from;
+        for (int bound = from + LONGS.loopBound(to - from); i < bound; i += LONGS.length()) {
+            sums = sums.add(LongVector.fromArray(LONGS, data, i));
+        }
+        long sum = sums.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            sum += data[i];
+        }
+        return sum;
+    }
+
+    static void combine(GridKernels.Combine op, boolean[] a, boolean[] b, boolean[] dst, int from, int to) {
+        int i = from;
+        for (int bound = from + BYTES.loopBound(to - from); i < bound; i += BYTES.length()) {
+            VectorMask<Byte> left = VectorMask.fromArray(BYTES, a, i);
+            VectorMask<Byte> right = VectorMask.fromArray(BYTES, b, i);
+            VectorMask<Byte> result = switch (op) {
+                case AND -> left.and(right);
+                case OR -> left.or(right);
+                case XOR -> left.xor(right);
+                case AND_NOT -> left.andNot(right);
+            };
+            result.intoArray(dst, i);
+        }
+        for (; i < to; i++) {
+            dst[i] = op.apply(a[i], b[i]);
+        }
+    }
+
+    static void combine(GridKernels.Combine op, long[] a, long[] b, long[] dst, int from, int to) {
+        VectorOperators.Binary operator = switch (op) {
+            case AND -> VectorOperators.AND;
+            case OR -> VectorOperators.OR;
+            case XOR -> VectorOperators.XOR;
+            case AND_NOT -> VectorOperators.AND_NOT;
+        };
+        int i = from;
+        for (int bound = from + LONGS.loopBound(to - from); i < bound; i += LONGS.length()) {
+            LongVector.fromArray(LONGS, a, i).lanewise(operator, LongVector.fromArray(LONGS, b, i)).intoArray(dst, i);
+        }
+        for (; i < to; i++) {
+            dst[i] = op.apply(a[i], b[i]);
+        }
+    }
+
+    static void add(int[] a, int[] b, int[] dst, int from, int to) {
+        int i = from;
+        for (int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length()) {
+            IntVector.fromArray(INTS, a, i).add(IntVector.fromArray(INTS, b, i)).intoArray(dst, i);
+        }
+        for (; i < to; i++) {
+            dst[i] = a[i] + b[i];
+        }
+    }
+}
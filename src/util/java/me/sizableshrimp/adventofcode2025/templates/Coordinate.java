@@ -214,6 +214,13 @@ public record Coordinate(int x, int y) {
         return resolve(Direction.EAST);
     }
 
+    /**
+     * @return this coordinate packed into a {@code long}, as described by {@link PackedCoordinate}
+     */
+    public long pack() {
+        return PackedCoordinate.pack(this.x, this.y);
+    }
+
     /**
      * Returns the value on the direction axis.
      */
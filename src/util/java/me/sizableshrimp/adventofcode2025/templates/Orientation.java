@@ -0,0 +1,161 @@
+/*
+ * AdventOfCode2025
+ * Copyright (C) 2025 SizableShrimp
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.sizableshrimp.adventofcode2025.templates;
+
+/**
+ * The 8 ways to rotate and reflect a grid, also known as the dihedral group of the square.
+ * <p>
+ * Rotations are clockwise when y points down, matching {@code GridHelper.rotate}, and {@link #REFLECT_X} and
+ * {@link #REFLECT_Y} match {@code GridHelper.reflectX} and {@code GridHelper.reflectY}.
+ * Each orientation is defined by where a cell of the transformed grid is read from in the original grid: first x and y
+ * are swapped if {@link #swapsAxes()}, and then each axis may be flipped.
+ */
+public enum Orientation {
+    IDENTITY(false, false, false),
+    ROTATE_90(true, false, true),
+    ROTATE_180(false, true, true),
+    ROTATE_270(true, true, false),
+    REFLECT_X(false, true, false),
+    REFLECT_Y(false, false, true),
+    TRANSPOSE(true, false, false),
+    ANTI_TRANSPOSE(true, true, true);
+
+    private static final Orientation[] VALUES = values();
+    private static final Orientation[][] COMPOSED = new Orientation[VALUES.length][VALUES.length];
+    private static final Orientation[] INVERSES = new Orientation[VALUES.length];
+
+    static {
+        // Compares where each orientation sends the corners of a non-square grid, which is enough to tell them apart
+        for (Orientation first : VALUES) {
+            for (Orientation second : VALUES) {
+                for (Orientation result : VALUES) {
+                    if (result.matches(first, second)) {
+                        COMPOSED[first.ordinal()][second.ordinal()] = result;
+                        break;
+                    }
+                }
+            }
+            for (Orientation other : VALUES) {
+                if (COMPOSED[first.ordinal()][other.ordinal()] == IDENTITY)
+                    INVERSES[first.ordinal()] = other;
+            }
+        }
+    }
+
+    private final boolean swapsAxes;
+    private final boolean flipsX;
+    private final boolean flipsY;
+
+    Orientation(boolean swapsAxes, boolean flipsX, boolean flipsY) {
+        this.swapsAxes = swapsAxes;
+        this.flipsX = flipsX;
+        this.flipsY = flipsY;
+    }
+
+    /**
+     * @return the clockwise rotation by {@code degrees}, which must be a multiple of 90
+     */
+    public static Orientation rotation(int degrees) {
+        return switch (Math.floorMod(degrees, 360)) {
+            case 0 -> IDENTITY;
+            case 90 -> ROTATE_90;
+            case 180 -> ROTATE_180;
+            case 270 -> ROTATE_270;
+            default -> throw new IllegalArgumentException("Degrees is not a multiple of 90: " + degrees);
+        };
+    }
+
+    /**
+     * @return whether the width and height of a grid are swapped by this orientation
+     */
+    public boolean swapsAxes() {
+        return this.swapsAxes;
+    }
+
+    /**
+     * @return the width of a grid of the given size after applying this orientation
+     */
+    public int getWidth(int width, int height) {
+        return this.swapsAxes ? height : width;
+    }
+
+    /**
+     * @return the height of a grid of the given size after applying this orientation
+     */
+    public int getHeight(int width, int height) {
+        return this.swapsAxes ? width : height;
+    }
+
+    /**
+     * @return the x in the original grid of the given size of the cell at {@code (x, y)} after applying this orientation
+     */
+    public int getSourceX(int x, int y, int width, int height) {
+        int sourceX = this.swapsAxes ? y : x;
+        return this.flipsX ? width - 1 - sourceX : sourceX;
+    }
+
+    /**
+     * @return the y in the original grid of the given size of the cell at {@code (x, y)} after applying this orientation
+     */
+    public int getSourceY(int x, int y, int width, int height) {
+        int sourceY = this.swapsAxes ? x : y;
+        return this.flipsY ? height - 1 - sourceY : sourceY;
+    }
+
+    /**
+     * @return the orientation equivalent to applying this orientation and then {@code next}
+     */
+    public Orientation then(Orientation next) {
+        return COMPOSED[this.ordinal()][next.ordinal()];
+    }
+
+    /**
+     * @return the orientation which undoes this one
+     */
+    public Orientation inverse() {
+        return INVERSES[this.ordinal()];
+    }
+
+    private boolean matches(Orientation first, Orientation second) {
+        int width = 2;
+        int height = 3;
+        int firstWidth = first.getWidth(width, height);
+        int firstHeight = first.getHeight(width, height);
+        if (this.getWidth(width, height) != second.getWidth(firstWidth, firstHeight))
+            return false;
+
+        int resultWidth = this.getWidth(width, height);
+        int resultHeight = this.getHeight(width, height);
+        for (int y = 0; y < resultHeight; y++) {
+            for (int x = 0; x < resultWidth; x++) {
+                int middleX = second.getSourceX(x, y, firstWidth, firstHeight);
+                int middleY = second.getSourceY(x, y, firstWidth, firstHeight);
+                if (this.getSourceX(x, y, width, height) != first.getSourceX(middleX, middleY, width, height)
+                        || this.getSourceY(x, y, width, height) != first.getSourceY(middleX, middleY, width, height))
+                    return false;
+            }
+        }
+        return true;
+    }
+}
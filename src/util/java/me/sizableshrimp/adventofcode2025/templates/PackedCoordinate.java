@@ -0,0 +1,92 @@
+/*
+ * AdventOfCode2025
+ * Copyright (C) 2025 SizableShrimp
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.sizableshrimp.adventofcode2025.templates;
+
+/**
+ * Static operations on coordinates packed into a single {@code long}, which avoids allocating a {@link Coordinate} for
+ * every step of a simulation. The x value is stored in the upper 32 bits and the y value in the lower 32 bits, so every
+ * pair of ints has exactly one packed value.
+ */
+public final class PackedCoordinate {
+    private PackedCoordinate() {}
+
+    public static long pack(int x, int y) {
+        return (long) x << 32 | (y & 0xFFFFFFFFL);
+    }
+
+    public static long pack(Coordinate coord) {
+        return pack(coord.x(), coord.y());
+    }
+
+    public static int getX(long packed) {
+        return (int) (packed >> 32);
+    }
+
+    public static int getY(long packed) {
+        return (int) packed;
+    }
+
+    public static Coordinate unpack(long packed) {
+        return Coordinate.of(getX(packed), getY(packed));
+    }
+
+    public static long add(long packed, int dx, int dy) {
+        return pack(getX(packed) + dx, getY(packed) + dy);
+    }
+
+    public static long add(long a, long b) {
+        return pack(getX(a) + getX(b), getY(a) + getY(b));
+    }
+
+    /**
+     * @return the packed coordinate one step in the given direction
+     */
+    public static long neighbor(long packed, Direction direction) {
+        return add(packed, direction.x, direction.y);
+    }
+
+    /**
+     * @return the packed coordinate {@code count} steps in the given direction
+     */
+    public static long neighbor(long packed, Direction direction, int count) {
+        return add(packed, direction.x * count, direction.y * count);
+    }
+
+    /**
+     * @return the Manhattan distance between two packed coordinates
+     */
+    public static int manhattan(long a, long b) {
+        return Math.abs(getX(a) - getX(b)) + Math.abs(getY(a) - getY(b));
+    }
+
+    public static boolean isValid(long packed, int width, int height) {
+        int x = getX(packed);
+        int y = getY(packed);
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    public static String toString(long packed) {
+        return "Coordinate[x=" + getX(packed) + ", y=" + getY(packed) + "]";
+    }
+}
@@ -23,6 +23,9 @@
 
 package me.sizableshrimp.adventofcode2025.util
 
+import me.sizableshrimp.adventofcode2025.helper.CoordLongMap
+import me.sizableshrimp.adventofcode2025.helper.CoordMap
+import me.sizableshrimp.adventofcode2025.helper.CoordSet
 import me.sizableshrimp.adventofcode2025.templates.Coordinate
 import me.sizableshrimp.adventofcode2025.templates.Direction
 import kotlin.math.max
@@ -35,6 +38,12 @@ fun List<Int>.toCoordinate(): Coordinate {
 
 fun Pair<Int, Int>.toCoordinate() = Coordinate(this.first, this.second)
 
+fun Iterable<Coordinate>.toCoordSet() = CoordSet().also { set -> this.forEach { set.add(it) } }
+
+fun <V> Map<Coordinate, V>.toCoordMap(): CoordMap<V> = CoordMap.of(this)
+
+fun Map<Coordinate, Long>.toCoordLongMap() = CoordLongMap(this.size).also { map -> this.forEach { (c, v) -> map.put(c, v) } }
+
 operator fun Coordinate.plus(other: Coordinate): Coordinate = this.resolve(other)
 
 operator fun Coordinate.plus(dir: Direction): Coordinate = this.resolve(dir)
@@ -23,9 +23,21 @@
 
 package me.sizableshrimp.adventofcode2025.util
 
+import me.sizableshrimp.adventofcode2025.helper.BoolGrid
+import me.sizableshrimp.adventofcode2025.helper.BoolGridView
+import me.sizableshrimp.adventofcode2025.helper.ByteGrid
+import me.sizableshrimp.adventofcode2025.helper.CharGrid
+import me.sizableshrimp.adventofcode2025.helper.CoordSet
+import me.sizableshrimp.adventofcode2025.helper.FlatGrid
 import me.sizableshrimp.adventofcode2025.helper.GridHelper
+import me.sizableshrimp.adventofcode2025.helper.GridKernels
+import me.sizableshrimp.adventofcode2025.helper.IntGrid
+import me.sizableshrimp.adventofcode2025.helper.LongGrid
+import me.sizableshrimp.adventofcode2025.helper.RowBands
+import me.sizableshrimp.adventofcode2025.helper.ShapeMask
 import me.sizableshrimp.adventofcode2025.templates.Coordinate
 import me.sizableshrimp.adventofcode2025.templates.Direction
+import me.sizableshrimp.adventofcode2025.templates.Orientation
 
 inline fun <reified T> List<String>.toGrid(func: (Char) -> T) =
     Array(this.size) { y -> Array(this[y].length) { x -> func(this[y][x]) } }
@@ -80,6 +92,11 @@ fun List<String>.findAllCoords(target: Char): Set<Coordinate> {
     return set
 }
 
+/**
+ * Packed equivalent of [findAllCoords], which does not allocate a [Coordinate] per match.
+ */
+fun List<String>.findAllCoordsPacked(target: Char): CoordSet = GridHelper.convertToCoordSet(this) { it == target }
+
 fun List<String>.toCharGrid(): Array<CharArray> = GridHelper.createCharGrid(this)
 
 /**
@@ -90,6 +107,64 @@ fun List<String>.toCharGrid(): Array<CharArray> = GridHelper.createCharGrid(this
  */
 fun List<String>.toIntGrid(): Array<IntArray> = GridHelper.createIntGrid(this)
 
+/**
+ * Creates a grid which is true wherever the input has [target], which is faster than a predicate for large inputs.
+ */
+fun List<String>.toBooleanGrid(target: Char): Array<BooleanArray> = GridHelper.convertBool(this, target)
+
+// region Flat grids
+inline fun List<String>.toFlatBooleanGrid(padding: Int = 0, func: (Char) -> Boolean) =
+    BoolGrid(this[0].length, this.size, padding).also { grid -> this.forEachCharIn(grid) { x, y, c -> grid[x, y] = func(c) } }
+
+inline fun List<String>.toFlatByteGrid(padding: Int = 0, func: (Char) -> Byte) =
+    ByteGrid(this[0].length, this.size, padding).also { grid -> this.forEachCharIn(grid) { x, y, c -> grid[x, y] = func(c) } }
+
+inline fun List<String>.toFlatIntGrid(padding: Int = 0, func: (Char) -> Int) =
+    IntGrid(this[0].length, this.size, padding).also { grid -> this.forEachCharIn(grid) { x, y, c -> grid[x, y] = func(c) } }
+
+inline fun List<String>.toFlatLongGrid(padding: Int = 0, func: (Char) -> Long) =
+    LongGrid(this[0].length, this.size, padding).also { grid -> this.forEachCharIn(grid) { x, y, c -> grid[x, y] = func(c) } }
+
+inline fun List<String>.toFlatCharGrid(padding: Int = 0, func: (Char) -> Char = { it }) =
+    CharGrid(this[0].length, this.size, padding).also { grid -> this.forEachCharIn(grid) { x, y, c -> grid[x, y] = func(c) } }
+
+/**
+ * Flat equivalent of [toIntGrid], creating a grid of single-digit integers.
+ */
+fun List<String>.toFlatIntGrid(padding: Int = 0): IntGrid = this.toFlatIntGrid(padding) { it - '0' }
+
+/**
+ * Calls [action] for each character after checking that every line fits in [grid], since flat grids do not bounds check
+ * their rows and an overlong line would otherwise spill into the next row.
+ */
+@PublishedApi
+internal inline fun List<String>.forEachCharIn(grid: FlatGrid, action: (x: Int, y: Int, Char) -> Unit) {
+    GridHelper.checkLinesFit(grid, this)
+    for (y in this.indices) {
+        val line = this[y]
+        for (x in line.indices) {
+            action(x, y, line[x])
+        }
+    }
+}
+
+fun Array<BooleanArray>.toFlat(padding: Int = 0): BoolGrid = BoolGrid.of(this, padding)
+fun Array<ByteArray>.toFlat(padding: Int = 0): ByteGrid = ByteGrid.of(this, padding)
+fun Array<IntArray>.toFlat(padding: Int = 0): IntGrid = IntGrid.of(this, padding)
+fun Array<LongArray>.toFlat(padding: Int = 0): LongGrid = LongGrid.of(this, padding)
+fun Array<CharArray>.toFlat(padding: Int = 0): CharGrid = CharGrid.of(this, padding)
+
+/**
+ * Returns a zero-copy view of this grid under [orientation].
+ */
+fun Array<BooleanArray>.view(orientation: Orientation): BoolGridView = BoolGridView.of(this, orientation)
+
+/**
+ * Packs this grid, which must have at most 64 cells, into a [ShapeMask].
+ */
+fun Array<BooleanArray>.toShapeMask(): ShapeMask = ShapeMask.of(this)
+// endregion
+
 operator fun <T> Array<Array<T>>.get(coord: Coordinate) = this[coord.y][coord.x]
 operator fun Array<IntArray>.get(coord: Coordinate) = this[coord.y][coord.x]
 operator fun Array<LongArray>.get(coord: Coordinate) = this[coord.y][coord.x]
@@ -405,6 +480,234 @@ fun Array<BooleanArray>.getCardinalOrdinalNeighbors(coord: Coordinate) = Iterabl
 }
 // endregion
 
+// region Allocation-free neighbor visitors
+/**
+ * The x and y offsets of each neighbor, in the order of [Direction.cardinalOrdinalDirections],
+ * so the cardinal neighbors are `0 until 4` and the ordinal neighbors are `4 until 8`.
+ */
+@PublishedApi
+internal val NEIGHBOR_DX = Direction.cardinalOrdinalDirections().map { it.x }.toIntArray()
+
+@PublishedApi
+internal val NEIGHBOR_DY = Direction.cardinalOrdinalDirections().map { it.y }.toIntArray()
+
+/**
+ * Calls [action] with the position of each neighbor from [from] until [to] in [NEIGHBOR_DX] which is inside a grid of
+ * the given size, without allocating anything.
+ */
+@PublishedApi
+internal inline fun forEachNeighbor(x: Int, y: Int, width: Int, height: Int, from: Int, to: Int, action: (x: Int, y: Int) -> Unit) {
+    for (i in from until to) {
+        val nx = x + NEIGHBOR_DX[i]
+        val ny = y + NEIGHBOR_DY[i]
+        if (nx in 0 until width && ny in 0 until height)
+            action(nx, ny)
+    }
+}
+
+@PublishedApi
+internal inline fun countNeighbors(x: Int, y: Int, width: Int, height: Int, from: Int, to: Int, predicate: (x: Int, y: Int) -> Boolean): Int {
+    var count = 0
+    forEachNeighbor(x, y, width, height, from, to) { nx, ny ->
+        if (predicate(nx, ny))
+            count++
+    }
+    return count
+}
+
+inline fun <T> Array<Array<T>>.forEachCardinalNeighbor(x: Int, y: Int, action: (x: Int, y: Int) -> Unit) =
+    forEachNeighbor(x, y, this[0].size, this.size, 0, 4, action)
+
+inline fun <T> Array<Array<T>>.forEachOrdinalNeighbor(x: Int, y: Int, action: (x: Int, y: Int) -> Unit) =
+    forEachNeighbor(x, y, this[0].size, this.size, 4, 8, action)
+
+inline fun <T> Array<Array<T>>.forEachCardinalOrdinalNeighbor(x: Int, y: Int, action: (x: Int, y: Int) -> Unit) =
+    forEachNeighbor(x, y, this[0].size, this.size, 0, 8, action)
+
+inline fun <T> Array<Array<T>>.countCardinalNeighbors(x: Int, y: Int, predicate: (x: Int, y: Int) -> Boolean) =
+    countNeighbors(x, y, this[0].size, this.size, 0, 4, predicate)
+
+inline fun <T> Array<Array<T>>.countOrdinalNeighbors(x: Int, y: Int, predicate: (x: Int, y: Int) -> Boolean) =
+    countNeighbors(x, y, this[0].size, this.size, 4, 8, predicate)
+
+inline fun <T> Array<Array<T>>.countCardinalOrdinalNeighbors(x: Int, y: Int, predicate: (x: Int, y: Int) -> Boolean) =
+    countNeighbors(x, y, this[0].size, this.size, 0, 8, predicate)
+
+
+inline fun Array<IntArray>.forEachCardinalNeighbor(x: Int, y: Int, action: (x: Int, y: Int) -> Unit) =
+    forEachNeighbor(x, y, this[0].size, this.size, 0, 4, action)
+
+inline fun Array<IntArray>.forEachOrdinalNeighbor(x: Int, y: Int, action: (x: Int, y: Int) -> Unit) =
+    forEachNeighbor(x, y, this[0].size, this.size, 4, 8, action)
+
+inline fun Array<IntArray>.forEachCardinalOrdinalNeighbor(x: Int, y: Int, action: (x: Int, y: Int) -> Unit) =
+    forEachNeighbor(x, y, this[0].size, this.size, 0, 8, action)
+
+inline fun Array<IntArray>.countCardinalNeighbors(x: Int, y: Int, predicate: (x: Int, y: Int) -> Boolean) =
+    countNeighbors(x, y, this[0].size, this.size, 0, 4, predicate)
+
+inline fun Array<IntArray>.countOrdinalNeighbors(x: Int, y: Int, predicate: (x: Int, y: Int) -> Boolean) =
+    countNeighbors(x, y, this[0].size, this.size, 4, 8, predicate)
+
+inline fun Array<IntArray>.countCardinalOrdinalNeighbors(x: Int, y: Int, predicate: (x: Int, y: Int) -> Boolean) =
+    countNeighbors(x, y, this[0].size, this.size, 0, 8, predicate)
+
+
+inline fun Array<LongArray>.forEachCardinalNeighbor(x: Int, y: Int, action: (x: Int, y: Int) -> Unit) =
+    forEachNeighbor(x, y, this[0].size, this.size, 0, 4, action)
+
+inline fun Array<LongArray>.forEachOrdinalNeighbor(x: Int, y: Int, action: (x: Int, y: Int) -> Unit) =
+    forEachNeighbor(x, y, this[0].size, this.size, 4, 8, action)
+
+inline fun Array<LongArray>.forEachCardinalOrdinalNeighbor(x: Int, y: Int, action: (x: Int, y: Int) -> Unit) =
+    forEachNeighbor(x, y, this[0].size, this.size, 0, 8, action)
+
+inline fun Array<LongArray>.countCardinalNeighbors(x: Int, y: Int, predicate: (x: Int, y: Int) -> Boolean) =
+    countNeighbors(x, y, this[0].size, this.size, 0, 4, predicate)
+
+inline fun Array<LongArray>.countOrdinalNeighbors(x: Int, y: Int, predicate: (x: Int, y: Int) -> Boolean) =
+    countNeighbors(x, y, this[0].size, this.size, 4, 8, predicate)
+
+inline fun Array<LongArray>.countCardinalOrdinalNeighbors(x: Int, y: Int, predicate: (x: Int, y: Int) -> Boolean) =
+    countNeighbors(x, y, this[0].size, this.size, 0, 8, predicate)
+
+
+inline fun Array<CharArray>.forEachCardinalNeighbor(x: Int, y: Int, action: (x: Int, y: Int) -> Unit) =
+    forEachNeighbor(x, y, this[0].size, this.size, 0, 4, action)
+
+inline fun Array<CharArray>.forEachOrdinalNeighbor(x: Int, y: Int, action: (x: Int, y: Int) -> Unit) =
+    forEachNeighbor(x, y, this[0].size, this.size, 4, 8, action)
+
+inline fun Array<CharArray>.forEachCardinalOrdinalNeighbor(x: Int, y: Int, action: (x: Int, y: Int) -> Unit) =
+    forEachNeighbor(x, y, this[0].size, this.size, 0, 8, action)
+
+inline fun Array<CharArray>.countCardinalNeighbors(x: Int, y: Int, predicate: (x: Int, y: Int) -> Boolean) =
+    countNeighbors(x, y, this[0].size, this.size, 0, 4, predicate)
+
+inline fun Array<CharArray>.countOrdinalNeighbors(x: Int, y: Int, predicate: (x: Int, y: Int) -> Boolean) =
+    countNeighbors(x, y, this[0].size, this.size, 4, 8, predicate)
+
+inline fun Array<CharArray>.countCardinalOrdinalNeighbors(x: Int, y: Int, predicate: (x: Int, y: Int) -> Boolean) =
+    countNeighbors(x, y, this[0].size, this.size, 0, 8, predicate)
+
+
+inline fun Array<ByteArray>.forEachCardinalNeighbor(x: Int, y: Int, action: (x: Int, y: Int) -> Unit) =
+    forEachNeighbor(x, y, this[0].size, this.size, 0, 4, action)
+
+inline fun Array<ByteArray>.forEachOrdinalNeighbor(x: Int, y: Int, action: (x: Int, y: Int) -> Unit) =
+    forEachNeighbor(x, y, this[0].size, this.size, 4, 8, action)
+
+inline fun Array<ByteArray>.forEachCardinalOrdinalNeighbor(x: Int, y: Int, action: (x: Int, y: Int) -> Unit) =
+    forEachNeighbor(x, y, this[0].size, this.size, 0, 8, action)
+
+inline fun Array<ByteArray>.countCardinalNeighbors(x: Int, y: Int, predicate: (x: Int, y: Int) -> Boolean) =
+    countNeighbors(x, y, this[0].size, this.size, 0, 4, predicate)
+
+inline fun Array<ByteArray>.countOrdinalNeighbors(x: Int, y: Int, predicate: (x: Int, y: Int) -> Boolean) =
+    countNeighbors(x, y, this[0].size, this.size, 4, 8, predicate)
+
+inline fun Array<ByteArray>.countCardinalOrdinalNeighbors(x: Int, y: Int, predicate: (x: Int, y: Int) -> Boolean) =
+    countNeighbors(x, y, this[0].size, this.size, 0, 8, predicate)
+
+
+inline fun Array<DoubleArray>.forEachCardinalNeighbor(x: Int, y: Int, action: (x: Int, y: Int) -> Unit) =
+    forEachNeighbor(x, y, this[0].size, this.size, 0, 4, action)
+
+inline fun Array<DoubleArray>.forEachOrdinalNeighbor(x: Int, y: Int, action: (x: Int, y: Int) -> Unit) =
+    forEachNeighbor(x, y, this[0].size, this.size, 4, 8, action)
+
+inline fun Array<DoubleArray>.forEachCardinalOrdinalNeighbor(x: Int, y: Int, action: (x: Int, y: Int) -> Unit) =
+    forEachNeighbor(x, y, this[0].size, this.size, 0, 8, action)
+
+inline fun Array<DoubleArray>.countCardinalNeighbors(x: Int, y: Int, predicate: (x: Int, y: Int) -> Boolean) =
+    countNeighbors(x, y, this[0].size, this.size, 0, 4, predicate)
+
+inline fun Array<DoubleArray>.countOrdinalNeighbors(x: Int, y: Int, predicate: (x: Int, y: Int) -> Boolean) =
+    countNeighbors(x, y, this[0].size, this.size, 4, 8, predicate)
+
+inline fun Array<DoubleArray>.countCardinalOrdinalNeighbors(x: Int, y: Int, predicate: (x: Int, y: Int) -> Boolean) =
+    countNeighbors(x, y, this[0].size, this.size, 0, 8, predicate)
+
+
+inline fun Array<FloatArray>.forEachCardinalNeighbor(x: Int, y: Int, action: (x: Int, y: Int) -> Unit) =
+    forEachNeighbor(x, y, this[0].size, this.size, 0, 4, action)
+
+inline fun Array<FloatArray>.forEachOrdinalNeighbor(x: Int, y: Int, action: (x: Int, y: Int) -> Unit) =
+    forEachNeighbor(x, y, this[0].size, this.size, 4, 8, action)
+
+inline fun Array<FloatArray>.forEachCardinalOrdinalNeighbor(x: Int, y: Int, action: (x: Int, y: Int) -> Unit) =
+    forEachNeighbor(x, y, this[0].size, this.size, 0, 8, action)
+
+inline fun Array<FloatArray>.countCardinalNeighbors(x: Int, y: Int, predicate: (x: Int, y: Int) -> Boolean) =
+    countNeighbors(x, y, this[0].size, this.size, 0, 4, predicate)
+
+inline fun Array<FloatArray>.countOrdinalNeighbors(x: Int, y: Int, predicate: (x: Int, y: Int) -> Boolean) =
+    countNeighbors(x, y, this[0].size, this.size, 4, 8, predicate)
+
+inline fun Array<FloatArray>.countCardinalOrdinalNeighbors(x: Int, y: Int, predicate: (x: Int, y: Int) -> Boolean) =
+    countNeighbors(x, y, this[0].size, this.size, 0, 8, predicate)
+
+
+inline fun Array<BooleanArray>.forEachCardinalNeighbor(x: Int, y: Int, action: (x: Int, y: Int) -> Unit) =
+    forEachNeighbor(x, y, this[0].size, this.size, 0, 4, action)
+
+inline fun Array<BooleanArray>.forEachOrdinalNeighbor(x: Int, y: Int, action: (x: Int, y: Int) -> Unit) =
+    forEachNeighbor(x, y, this[0].size, this.size, 4, 8, action)
+
+inline fun Array<BooleanArray>.forEachCardinalOrdinalNeighbor(x: Int, y: Int, action: (x: Int, y: Int) -> Unit) =
+    forEachNeighbor(x, y, this[0].size, this.size, 0, 8, action)
+
+inline fun Array<BooleanArray>.countCardinalNeighbors(x: Int, y: Int, predicate: (x: Int, y: Int) -> Boolean) =
+    countNeighbors(x, y, this[0].size, this.size, 0, 4, predicate)
+
+inline fun Array<BooleanArray>.countOrdinalNeighbors(x: Int, y: Int, predicate: (x: Int, y: Int) -> Boolean) =
+    countNeighbors(x, y, this[0].size, this.size, 4, 8, predicate)
+
+inline fun Array<BooleanArray>.countCardinalOrdinalNeighbors(x: Int, y: Int, predicate: (x: Int, y: Int) -> Boolean) =
+    countNeighbors(x, y, this[0].size, this.size, 0, 8, predicate)
+
+
+fun Array<BooleanArray>.countCardinalNeighbors(x: Int, y: Int) = this.countCardinalNeighbors(x, y) { nx, ny -> this[ny][nx] }
+fun Array<BooleanArray>.countOrdinalNeighbors(x: Int, y: Int) = this.countOrdinalNeighbors(x, y) { nx, ny -> this[ny][nx] }
+fun Array<BooleanArray>.countCardinalOrdinalNeighbors(x: Int, y: Int) = this.countCardinalOrdinalNeighbors(x, y) { nx, ny -> this[ny][nx] }
+
+
+inline fun FlatGrid.forEachCardinalNeighbor(x: Int, y: Int, action: (x: Int, y: Int) -> Unit) =
+    forEachNeighbor(x, y, this.width, this.height, 0, 4, action)
+
+inline fun FlatGrid.forEachOrdinalNeighbor(x: Int, y: Int, action: (x: Int, y: Int) -> Unit) =
+    forEachNeighbor(x, y, this.width, this.height, 4, 8, action)
+
+inline fun FlatGrid.forEachCardinalOrdinalNeighbor(x: Int, y: Int, action: (x: Int, y: Int) -> Unit) =
+    forEachNeighbor(x, y, this.width, this.height, 0, 8, action)
+
+/**
+ * Calls [action] with the index of each neighbor of the cell at [index], using the offset table of the grid.
+ * Neighbors are not bounds checked, so the grid must have a padding of at least 1.
+ */
+inline fun FlatGrid.forEachNeighborIndex(index: Int, from: Int = 0, to: Int = 8, action: (Int) -> Unit) {
+    val offsets = this.neighborOffsets
+    for (i in from until to) {
+        action(index + offsets[i])
+    }
+}
+
+/**
+ * Counts the neighbors of the cell at [index] which are true, which requires a padding of at least 1.
+ */
+fun BoolGrid.countCardinalOrdinalNeighbors(index: Int): Int {
+    var count = 0
+    this.forEachNeighborIndex(index) { if (this.getAt(it)) count++ }
+    return count
+}
+
+fun BoolGrid.countCardinalOrdinalNeighbors(x: Int, y: Int): Int {
+    var count = 0
+    this.forEachCardinalOrdinalNeighbor(x, y) { nx, ny -> if (this[nx, ny]) count++ }
+    return count
+}
+// endregion
+
 private class GridIterator<T>(private val height: Int, private val width: Int, private val getter: (Coordinate) -> T) : Iterator<Pair<Coordinate, T>> {
     private var y = 0
     private var x = 0
@@ -1339,4 +1642,457 @@ inline fun Array<BooleanArray>.count2D(selector: (x: Int, y: Int, Boolean) -> Bo
 
     return sum
 }
-// endregion
\ No newline at end of file
+// endregion
+
+// region Array<Array>#count2D and sum2D without selectors
+/**
+ * Counts the cells which are true, which is faster than `count2D { _, b -> b }` for large grids.
+ */
+fun Array<BooleanArray>.count2D(): Int = GridHelper.countOccurrences(this, true)
+
+fun Array<IntArray>.count2D(target: Int): Int = GridHelper.countOccurrences(this, target)
+
+fun Array<IntArray>.sum2D(): Long = this.sumOf { row -> GridKernels.sum(row, 0, row.size) }
+
+fun Array<LongArray>.sum2D(): Long = this.sumOf { row -> GridKernels.sum(row, 0, row.size) }
+// endregion
+
+// region Parallel row-band aggregates
+// These split the grid into row bands with RowBands, which only runs in parallel above RowBands.PARALLEL_THRESHOLD cells.
+// Unlike forEach2D and friends, the lambdas may run on several threads at once, so they must not mutate shared state.
+// Results are combined in row order, so map2D and filter2D give the same order as the sequential versions.
+// They are inline with crossinline lambdas so each cell's body is compiled into the band lambda, without boxing every cell.
+
+inline fun <T> Array<Array<T>>.parallelForEach2D(crossinline action: (x: Int, y: Int, T) -> Unit) =
+    RowBands.forEach(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) action(x, y, row[x])
+        }
+    }
+
+inline fun <T, R> Array<Array<T>>.parallelMap2D(crossinline transform: (x: Int, y: Int, T) -> R): List<R> =
+    RowBands.flatMap(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        val list = ArrayList<R>()
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) list.add(transform(x, y, row[x]))
+        }
+        list
+    }
+
+inline fun <T> Array<Array<T>>.parallelFilter2D(crossinline predicate: (x: Int, y: Int, T) -> Boolean): List<Pair<Coordinate, T>> =
+    RowBands.flatMap(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        val list = ArrayList<Pair<Coordinate, T>>()
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) {
+                if (predicate(x, y, row[x]))
+                    list.add(Coordinate.of(x, y) to row[x])
+            }
+        }
+        list
+    }
+
+inline fun <T> Array<Array<T>>.parallelCount2D(crossinline predicate: (x: Int, y: Int, T) -> Boolean): Int =
+    RowBands.sum(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        var count = 0L
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) {
+                if (predicate(x, y, row[x]))
+                    count++
+            }
+        }
+        count
+    }.toInt()
+
+inline fun <T> Array<Array<T>>.parallelSumOf2D(crossinline selector: (x: Int, y: Int, T) -> Long): Long =
+    RowBands.sum(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        var sum = 0L
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) sum += selector(x, y, row[x])
+        }
+        sum
+    }
+
+inline fun Array<IntArray>.parallelForEach2D(crossinline action: (x: Int, y: Int, Int) -> Unit) =
+    RowBands.forEach(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) action(x, y, row[x])
+        }
+    }
+
+inline fun <R> Array<IntArray>.parallelMap2D(crossinline transform: (x: Int, y: Int, Int) -> R): List<R> =
+    RowBands.flatMap(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        val list = ArrayList<R>()
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) list.add(transform(x, y, row[x]))
+        }
+        list
+    }
+
+inline fun Array<IntArray>.parallelFilter2D(crossinline predicate: (x: Int, y: Int, Int) -> Boolean): List<Pair<Coordinate, Int>> =
+    RowBands.flatMap(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        val list = ArrayList<Pair<Coordinate, Int>>()
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) {
+                if (predicate(x, y, row[x]))
+                    list.add(Coordinate.of(x, y) to row[x])
+            }
+        }
+        list
+    }
+
+inline fun Array<IntArray>.parallelCount2D(crossinline predicate: (x: Int, y: Int, Int) -> Boolean): Int =
+    RowBands.sum(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        var count = 0L
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) {
+                if (predicate(x, y, row[x]))
+                    count++
+            }
+        }
+        count
+    }.toInt()
+
+inline fun Array<IntArray>.parallelSumOf2D(crossinline selector: (x: Int, y: Int, Int) -> Long): Long =
+    RowBands.sum(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        var sum = 0L
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) sum += selector(x, y, row[x])
+        }
+        sum
+    }
+
+inline fun Array<LongArray>.parallelForEach2D(crossinline action: (x: Int, y: Int, Long) -> Unit) =
+    RowBands.forEach(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) action(x, y, row[x])
+        }
+    }
+
+inline fun <R> Array<LongArray>.parallelMap2D(crossinline transform: (x: Int, y: Int, Long) -> R): List<R> =
+    RowBands.flatMap(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        val list = ArrayList<R>()
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) list.add(transform(x, y, row[x]))
+        }
+        list
+    }
+
+inline fun Array<LongArray>.parallelFilter2D(crossinline predicate: (x: Int, y: Int, Long) -> Boolean): List<Pair<Coordinate, Long>> =
+    RowBands.flatMap(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        val list = ArrayList<Pair<Coordinate, Long>>()
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) {
+                if (predicate(x, y, row[x]))
+                    list.add(Coordinate.of(x, y) to row[x])
+            }
+        }
+        list
+    }
+
+inline fun Array<LongArray>.parallelCount2D(crossinline predicate: (x: Int, y: Int, Long) -> Boolean): Int =
+    RowBands.sum(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        var count = 0L
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) {
+                if (predicate(x, y, row[x]))
+                    count++
+            }
+        }
+        count
+    }.toInt()
+
+inline fun Array<LongArray>.parallelSumOf2D(crossinline selector: (x: Int, y: Int, Long) -> Long): Long =
+    RowBands.sum(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        var sum = 0L
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) sum += selector(x, y, row[x])
+        }
+        sum
+    }
+
+inline fun Array<CharArray>.parallelForEach2D(crossinline action: (x: Int, y: Int, Char) -> Unit) =
+    RowBands.forEach(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) action(x, y, row[x])
+        }
+    }
+
+inline fun <R> Array<CharArray>.parallelMap2D(crossinline transform: (x: Int, y: Int, Char) -> R): List<R> =
+    RowBands.flatMap(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        val list = ArrayList<R>()
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) list.add(transform(x, y, row[x]))
+        }
+        list
+    }
+
+inline fun Array<CharArray>.parallelFilter2D(crossinline predicate: (x: Int, y: Int, Char) -> Boolean): List<Pair<Coordinate, Char>> =
+    RowBands.flatMap(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        val list = ArrayList<Pair<Coordinate, Char>>()
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) {
+                if (predicate(x, y, row[x]))
+                    list.add(Coordinate.of(x, y) to row[x])
+            }
+        }
+        list
+    }
+
+inline fun Array<CharArray>.parallelCount2D(crossinline predicate: (x: Int, y: Int, Char) -> Boolean): Int =
+    RowBands.sum(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        var count = 0L
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) {
+                if (predicate(x, y, row[x]))
+                    count++
+            }
+        }
+        count
+    }.toInt()
+
+inline fun Array<CharArray>.parallelSumOf2D(crossinline selector: (x: Int, y: Int, Char) -> Long): Long =
+    RowBands.sum(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        var sum = 0L
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) sum += selector(x, y, row[x])
+        }
+        sum
+    }
+
+inline fun Array<ByteArray>.parallelForEach2D(crossinline action: (x: Int, y: Int, Byte) -> Unit) =
+    RowBands.forEach(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) action(x, y, row[x])
+        }
+    }
+
+inline fun <R> Array<ByteArray>.parallelMap2D(crossinline transform: (x: Int, y: Int, Byte) -> R): List<R> =
+    RowBands.flatMap(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        val list = ArrayList<R>()
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) list.add(transform(x, y, row[x]))
+        }
+        list
+    }
+
+inline fun Array<ByteArray>.parallelFilter2D(crossinline predicate: (x: Int, y: Int, Byte) -> Boolean): List<Pair<Coordinate, Byte>> =
+    RowBands.flatMap(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        val list = ArrayList<Pair<Coordinate, Byte>>()
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) {
+                if (predicate(x, y, row[x]))
+                    list.add(Coordinate.of(x, y) to row[x])
+            }
+        }
+        list
+    }
+
+inline fun Array<ByteArray>.parallelCount2D(crossinline predicate: (x: Int, y: Int, Byte) -> Boolean): Int =
+    RowBands.sum(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        var count = 0L
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) {
+                if (predicate(x, y, row[x]))
+                    count++
+            }
+        }
+        count
+    }.toInt()
+
+inline fun Array<ByteArray>.parallelSumOf2D(crossinline selector: (x: Int, y: Int, Byte) -> Long): Long =
+    RowBands.sum(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        var sum = 0L
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) sum += selector(x, y, row[x])
+        }
+        sum
+    }
+
+inline fun Array<DoubleArray>.parallelForEach2D(crossinline action: (x: Int, y: Int, Double) -> Unit) =
+    RowBands.forEach(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) action(x, y, row[x])
+        }
+    }
+
+inline fun <R> Array<DoubleArray>.parallelMap2D(crossinline transform: (x: Int, y: Int, Double) -> R): List<R> =
+    RowBands.flatMap(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        val list = ArrayList<R>()
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) list.add(transform(x, y, row[x]))
+        }
+        list
+    }
+
+inline fun Array<DoubleArray>.parallelFilter2D(crossinline predicate: (x: Int, y: Int, Double) -> Boolean): List<Pair<Coordinate, Double>> =
+    RowBands.flatMap(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        val list = ArrayList<Pair<Coordinate, Double>>()
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) {
+                if (predicate(x, y, row[x]))
+                    list.add(Coordinate.of(x, y) to row[x])
+            }
+        }
+        list
+    }
+
+inline fun Array<DoubleArray>.parallelCount2D(crossinline predicate: (x: Int, y: Int, Double) -> Boolean): Int =
+    RowBands.sum(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        var count = 0L
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) {
+                if (predicate(x, y, row[x]))
+                    count++
+            }
+        }
+        count
+    }.toInt()
+
+inline fun Array<DoubleArray>.parallelSumOf2D(crossinline selector: (x: Int, y: Int, Double) -> Long): Long =
+    RowBands.sum(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        var sum = 0L
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) sum += selector(x, y, row[x])
+        }
+        sum
+    }
+
+inline fun Array<FloatArray>.parallelForEach2D(crossinline action: (x: Int, y: Int, Float) -> Unit) =
+    RowBands.forEach(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) action(x, y, row[x])
+        }
+    }
+
+inline fun <R> Array<FloatArray>.parallelMap2D(crossinline transform: (x: Int, y: Int, Float) -> R): List<R> =
+    RowBands.flatMap(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        val list = ArrayList<R>()
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) list.add(transform(x, y, row[x]))
+        }
+        list
+    }
+
+inline fun Array<FloatArray>.parallelFilter2D(crossinline predicate: (x: Int, y: Int, Float) -> Boolean): List<Pair<Coordinate, Float>> =
+    RowBands.flatMap(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        val list = ArrayList<Pair<Coordinate, Float>>()
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) {
+                if (predicate(x, y, row[x]))
+                    list.add(Coordinate.of(x, y) to row[x])
+            }
+        }
+        list
+    }
+
+inline fun Array<FloatArray>.parallelCount2D(crossinline predicate: (x: Int, y: Int, Float) -> Boolean): Int =
+    RowBands.sum(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        var count = 0L
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) {
+                if (predicate(x, y, row[x]))
+                    count++
+            }
+        }
+        count
+    }.toInt()
+
+inline fun Array<FloatArray>.parallelSumOf2D(crossinline selector: (x: Int, y: Int, Float) -> Long): Long =
+    RowBands.sum(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        var sum = 0L
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) sum += selector(x, y, row[x])
+        }
+        sum
+    }
+
+inline fun Array<BooleanArray>.parallelForEach2D(crossinline action: (x: Int, y: Int, Boolean) -> Unit) =
+    RowBands.forEach(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) action(x, y, row[x])
+        }
+    }
+
+inline fun <R> Array<BooleanArray>.parallelMap2D(crossinline transform: (x: Int, y: Int, Boolean) -> R): List<R> =
+    RowBands.flatMap(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        val list = ArrayList<R>()
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) list.add(transform(x, y, row[x]))
+        }
+        list
+    }
+
+inline fun Array<BooleanArray>.parallelFilter2D(crossinline predicate: (x: Int, y: Int, Boolean) -> Boolean): List<Pair<Coordinate, Boolean>> =
+    RowBands.flatMap(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        val list = ArrayList<Pair<Coordinate, Boolean>>()
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) {
+                if (predicate(x, y, row[x]))
+                    list.add(Coordinate.of(x, y) to row[x])
+            }
+        }
+        list
+    }
+
+inline fun Array<BooleanArray>.parallelCount2D(crossinline predicate: (x: Int, y: Int, Boolean) -> Boolean): Int =
+    RowBands.sum(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        var count = 0L
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) {
+                if (predicate(x, y, row[x]))
+                    count++
+            }
+        }
+        count
+    }.toInt()
+
+inline fun Array<BooleanArray>.parallelSumOf2D(crossinline selector: (x: Int, y: Int, Boolean) -> Long): Long =
+    RowBands.sum(this.firstOrNull()?.size ?: 0, this.size) { from, to ->
+        var sum = 0L
+        for (y in from until to) {
+            val row = this[y]
+            for (x in row.indices) sum += selector(x, y, row[x])
+        }
+        sum
+    }
+
+// endregion
@@ -23,6 +23,10 @@
 
 package me.sizableshrimp.adventofcode2025.util
 
+import me.sizableshrimp.adventofcode2025.helper.IntervalSet
+import me.sizableshrimp.adventofcode2025.helper.IntervalTree
+import me.sizableshrimp.adventofcode2025.helper.SegmentTree
+
 val IntRange.size: Int
     get() = this.last - this.first + 1
 
@@ -66,4 +70,48 @@ fun CharRange.getDisjointRanges(other: CharRange): List<CharRange> {
     val start = minOf(this.first, other.first)
     val end = maxOf(this.last, other.last)
     return listOf(start..<intersection.first, (intersection.last + 1)..end).filter { it.first <= it.last }
-}
\ No newline at end of file
+}
+
+fun LongRange.toIntervalSet(): IntervalSet = IntervalSet.of(this.first, this.last)
+
+fun Iterable<LongRange>.toIntervalSet(): IntervalSet {
+    val builder = IntervalSet.builder()
+    this.forEach { builder.add(it) }
+    return builder.build()
+}
+
+fun IntervalSet.Builder.add(range: LongRange): IntervalSet.Builder = this.add(range.first, range.last)
+
+fun IntervalSet.toLongRanges(): List<LongRange> = List(this.size()) { this.getStart(it)..this.getEnd(it) }
+
+operator fun IntervalSet.plus(other: IntervalSet): IntervalSet = this.union(other)
+
+operator fun IntervalSet.minus(other: IntervalSet): IntervalSet = this.difference(other)
+
+operator fun IntervalSet.contains(range: LongRange): Boolean = this.containsAll(range.first, range.last)
+
+fun IntervalTree.insert(range: IntRange): Int = this.insert(range.first.toLong(), range.last.toLong())
+
+fun IntervalTree.insert(range: LongRange): Int = this.insert(range.first, range.last)
+
+fun IntervalTree.remove(range: IntRange): Boolean = this.remove(range.first.toLong(), range.last.toLong())
+
+fun IntervalTree.remove(range: LongRange): Boolean = this.remove(range.first, range.last)
+
+fun IntervalTree.getRange(id: Int): LongRange = this.getStart(id)..this.getEnd(id)
+
+fun IntervalTree.overlapping(range: LongRange): List<Int> {
+    val result = mutableListOf<Int>()
+    this.forEachOverlapping(range.first, range.last) { id, _, _ -> result.add(id) }
+    return result
+}
+
+fun IntervalTree.stabbing(point: Long): List<Int> = this.overlapping(point..point)
+
+fun SegmentTree.add(range: IntRange, delta: Long) = this.add(range.first, range.last, delta)
+
+fun SegmentTree.sum(range: IntRange): Long = this.sum(range.first, range.last)
+
+fun SegmentTree.max(range: IntRange): Long = this.max(range.first, range.last)
+
+fun SegmentTree.min(range: IntRange): Long = this.min(range.first, range.last)
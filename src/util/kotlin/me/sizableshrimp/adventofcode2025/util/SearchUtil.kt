@@ -23,6 +23,11 @@
 
 package me.sizableshrimp.adventofcode2025.util
 
+import java.util.concurrent.Callable
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ForkJoinPool
+import java.util.concurrent.ForkJoinTask
+
 // TODO: Document all of these, including with examples!!
 //  And determine which ones should be deleted/refactored?
 fun <S> searchBest(
@@ -258,4 +263,32 @@ fun <S, O> searchMemoizing(
     fun recurse(s: S): O = seen[s] ?: run(s, ::recurse).also { seen[s] = it }
 
     return run(start, ::recurse)
-}
\ No newline at end of file
+}
+
+/**
+ * Parallel version of [searchMemoizing] for when a state's result is built from many independent subproblems.
+ *
+ * Each distinct id is evaluated exactly once as a [ForkJoinTask] on [pool]. `fork` schedules a subproblem, or returns
+ * the task that is already scheduled for the same id, so the caller should fork every child first and only then
+ * [join][ForkJoinTask.join] them, e.g. `children.map(fork).sumOf { it.join() }`.
+ * Like [searchMemoizing], the state graph must not contain cycles.
+ */
+fun <S, ID, O> searchMemoizingParallel(
+    start: S, getId: (S) -> ID, pool: ForkJoinPool = ForkJoinPool.commonPool(),
+    run: (state: S, fork: (S) -> ForkJoinTask<O>) -> O
+): O {
+    val seen = ConcurrentHashMap<ID, ForkJoinTask<O>>()
+
+    fun fork(s: S): ForkJoinTask<O> = getId(s).let { id ->
+        seen[id] ?: ForkJoinTask.adapt(Callable { run(s, ::fork) }).let { task ->
+            seen.putIfAbsent(id, task) ?: task.fork()
+        }
+    }
+
+    return pool.invoke(ForkJoinTask.adapt(Callable { run(start, ::fork) }))
+}
+
+fun <S, O> searchMemoizingParallel(
+    start: S, pool: ForkJoinPool = ForkJoinPool.commonPool(),
+    run: (state: S, fork: (S) -> ForkJoinTask<O>) -> O
+): O = searchMemoizingParallel(start, { it }, pool, run)